@@ -0,0 +1,142 @@
+package io.github.concurspec;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Crash-safe, memory-mapped checkpoint of a run's counters and latency histogram.
+ *
+ * <p>
+ * Enabled with {@link RunSpec.Builder#checkpoint(Path, Duration)}; a background thread
+ * rewrites the file every interval without touching the workers. {@link #read(Path)}
+ * rebuilds the statistics after a crash or from another process while the run is
+ * still going.
+ * </p>
+ *
+ * <p>
+ * Layout (big-endian, fixed): a 32-byte header followed by two slots written
+ * alternately. Each slot starts with a sequence number that is invalidated before the
+ * slot is rewritten, so a crash mid-flush still leaves the other slot intact.
+ * </p>
+ *
+ * <pre>
+ * header: magic:int version:int slotBytes:int reserved:int runStartEpochMillis:long reserved:long
+ * slot:   sequence:long flushedEpochMillis:long elapsedNanos:long state:long
+ *         success:long failure:long errors:long
+ *         count:long min:long max:long sum:long buckets:long[64]
+ * </pre>
+ */
+public final class Checkpoint {
+    static final int MAGIC = 0x43534350; // "CSCP"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 32;
+    static final int SLOT_LONGS = 11 + 64;
+    static final int SLOT_BYTES = SLOT_LONGS * Long.BYTES;
+    static final int FILE_BYTES = HEADER_BYTES + 2 * SLOT_BYTES;
+
+    static final int RUNNING = 0, FINISHED = 1, TIMED_OUT = 2;
+
+    // ordered access to the sequence word of each slot
+    static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    private static final int READ_ATTEMPTS = 100;
+
+    private Checkpoint() {
+    }
+
+    public enum State {
+        RUNNING, FINISHED, TIMED_OUT
+    }
+
+    /**
+     * A consistent view of the last completed flush.
+     * {@code stats().errors()} is empty: only the number of errors is persisted.
+     */
+    public record Snapshot(
+            State state,
+            Instant runStartedAt,
+            Instant flushedAt,
+            Duration elapsed,
+            long errorCount,
+            RunStats stats
+    ) {
+    }
+
+    public static Snapshot read(Path file) {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (ch.size() < FILE_BYTES) throw new IllegalStateException("not a checkpoint file: " + file);
+            MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, FILE_BYTES);
+            if (buf.getInt(0) != MAGIC) throw new IllegalStateException("not a checkpoint file: " + file);
+            if (buf.getInt(4) != VERSION) throw new IllegalStateException("unsupported checkpoint version " + buf.getInt(4));
+            long runStart = buf.getLong(16);
+
+            for (int attempt = 0; attempt < READ_ATTEMPTS; attempt++) {
+                long[] best = null;
+                for (int slot = 0; slot < 2; slot++) {
+                    long[] values = readSlot(buf, slotOffset(slot));
+                    if (values != null && (best == null || values[0] > best[0])) best = values;
+                }
+                if (best != null) return toSnapshot(runStart, best);
+                Thread.onSpinWait();
+            }
+            throw new IllegalStateException("no complete checkpoint in " + file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot read checkpoint " + file, e);
+        }
+    }
+
+    /**
+     * Prints a summary of a checkpoint file: {@code java io.github.concurspec.Checkpoint <file>}.
+     */
+    public static void main(String[] args) {
+        if (args.length != 1) {
+            System.err.println("usage: Checkpoint <file>");
+            System.exit(2);
+        }
+        Snapshot s = read(Path.of(args[0]));
+        LatencySnapshot l = s.stats().latency();
+        System.out.printf("state=%s flushedAt=%s elapsed=%s%n", s.state(), s.flushedAt(), s.elapsed());
+        System.out.printf("success=%d failure=%d errors=%d%n",
+                s.stats().successCount(), s.stats().failureCount(), s.errorCount());
+        System.out.printf("latency count=%d min=%dns avg=%dns p50=%dns p95=%dns p99=%dns max=%dns%n",
+                l.count(), l.minNanos(), l.avgNanos(), l.p50Nanos(), l.p95Nanos(), l.p99Nanos(), l.maxNanos());
+    }
+
+    static int slotOffset(int slot) {
+        return HEADER_BYTES + slot * SLOT_BYTES;
+    }
+
+    /**
+     * Returns the slot's longs, or {@code null} if it is invalid or was rewritten while reading.
+     */
+    private static long[] readSlot(ByteBuffer buf, int offset) {
+        long seq = (long) LONGS.getAcquire(buf, offset);
+        if (seq <= 0) return null;
+        long[] values = new long[SLOT_LONGS];
+        for (int i = 0; i < SLOT_LONGS; i++) values[i] = buf.getLong(offset + i * Long.BYTES);
+        VarHandle.loadLoadFence();
+        if ((long) LONGS.getAcquire(buf, offset) != seq) return null;
+        values[0] = seq;
+        return values;
+    }
+
+    private static Snapshot toSnapshot(long runStart, long[] v) {
+        long[] buckets = new long[64];
+        System.arraycopy(v, 11, buckets, 0, 64);
+        LatencySnapshot latency = new LatencySnapshot(buckets, v[7], v[8], v[9], v[10]);
+        RunStats stats = new RunStats(v[4], v[5], List.of(), latency);
+        return new Snapshot(State.values()[(int) v[3]], Instant.ofEpochMilli(runStart), Instant.ofEpochMilli(v[1]),
+                Duration.ofNanos(v[2]), v[6], stats);
+    }
+}
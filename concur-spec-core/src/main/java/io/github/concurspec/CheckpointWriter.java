@@ -0,0 +1,102 @@
+package io.github.concurspec;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.VarHandle;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Background flusher for {@link Checkpoint}.
+ * Reads the same live counters as {@link MetricsEndpoint} (adder sums and histogram
+ * buckets), so workers are never blocked; only this thread writes the mapping.
+ */
+final class CheckpointWriter {
+    private final MappedByteBuffer buf;
+    private final MetricsEndpoint.LiveRun live;
+    private final Collection<Throwable> errors;
+    private final long startNanos = System.nanoTime();
+    private final Thread flusher;
+    private long generation;
+
+    private CheckpointWriter(MappedByteBuffer buf, MetricsEndpoint.LiveRun live, Collection<Throwable> errors,
+                             Duration interval, String name) {
+        this.buf = buf;
+        this.live = live;
+        this.errors = errors;
+        this.flusher = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                LockSupport.parkNanos(interval.toNanos());
+                synchronized (this) {
+                    if (!Thread.currentThread().isInterrupted()) flush(Checkpoint.RUNNING);
+                }
+            }
+        }, name);
+        flusher.setDaemon(true);
+    }
+
+    /**
+     * Creates the checkpoint file and starts flushing, or returns {@code null} if the spec has none.
+     */
+    static CheckpointWriter start(RunSpec spec, MetricsEndpoint.LiveRun live) {
+        Path file = spec.checkpointFile();
+        if (file == null) return null;
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_WRITE, 0, Checkpoint.FILE_BYTES);
+            buf.putInt(0, Checkpoint.MAGIC);
+            buf.putInt(4, Checkpoint.VERSION);
+            buf.putInt(8, Checkpoint.SLOT_BYTES);
+            buf.putLong(16, System.currentTimeMillis());
+
+            CheckpointWriter writer = new CheckpointWriter(buf, live, spec.errors(), spec.checkpointInterval(),
+                    spec.threadNamePrefix() + "-checkpoint");
+            writer.flush(Checkpoint.RUNNING);
+            writer.flusher.start();
+            return writer;
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot create checkpoint " + file, e);
+        }
+    }
+
+    /**
+     * Stops the flusher and writes the final state.
+     */
+    void finish(boolean timedOut) {
+        flusher.interrupt();
+        synchronized (this) {
+            flush(timedOut ? Checkpoint.TIMED_OUT : Checkpoint.FINISHED);
+        }
+    }
+
+    private void flush(int state) {
+        LatencySnapshot latency = live.latency.snapshot();
+        long[] buckets = latency.buckets();
+
+        int offset = Checkpoint.slotOffset((int) (++generation & 1));
+        // invalidate the slot first: a crash mid-write leaves the other slot as the latest
+        Checkpoint.LONGS.setRelease(buf, offset, 0L);
+        VarHandle.storeStoreFence();
+
+        int i = offset + Long.BYTES;
+        buf.putLong(i, System.currentTimeMillis());
+        buf.putLong(i += Long.BYTES, System.nanoTime() - startNanos);
+        buf.putLong(i += Long.BYTES, state);
+        buf.putLong(i += Long.BYTES, live.success.sum());
+        buf.putLong(i += Long.BYTES, live.failure.sum());
+        buf.putLong(i += Long.BYTES, errors.size());
+        buf.putLong(i += Long.BYTES, latency.count());
+        buf.putLong(i += Long.BYTES, latency.minNanos());
+        buf.putLong(i += Long.BYTES, latency.maxNanos());
+        buf.putLong(i += Long.BYTES, latency.sumNanos());
+        for (long b : buckets) buf.putLong(i += Long.BYTES, b);
+
+        Checkpoint.LONGS.setRelease(buf, offset, generation);
+        buf.force();
+    }
+}
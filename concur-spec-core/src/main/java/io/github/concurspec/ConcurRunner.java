@@ -1,9 +1,13 @@
 package io.github.concurspec;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.concurrent.atomic.LongAdder;
 
 /**
@@ -11,6 +15,13 @@ import java.util.concurrent.atomic.LongAdder;
  * - All threads start together (barrier)
  * - Run user task until duration elapses or cancelled
  * - Collect success/failure counts, errors, and latency histogram
+ * - Keep the slowest-K operations per worker as exemplars
+ * - Record sub-phase latencies declared via {@link ConcurSpec#phase(String)}
+ * - Optionally sample CPU time, context switches and run-queue data
+ * - Optionally fuzz interleavings at {@link ConcurSpec#point(String)}
+ * - Report hung operations (watchdog) and partial stats on timeout
+ * - Optionally publish live counters on a {@link MetricsEndpoint}
+ * - Producer/consumer topologies are delegated to {@link PipelineRunner}
  */
 public final class ConcurRunner {
     private static final AtomicInteger THREAD_ID = new AtomicInteger();
@@ -20,40 +31,76 @@ public final class ConcurRunner {
 
     public static RunStats run(RunSpec spec) throws InterruptedException {
         Objects.requireNonNull(spec, "spec");
+        if (spec.pipeline() != null) {
+            return PipelineRunner.run(spec);
+        }
         Objects.requireNonNull(spec.task(), "task");
 
         int n = spec.threads();
 
+        AtomicBoolean cancel = new AtomicBoolean(false);
+        LongAdder success = new LongAdder();
+        LongAdder failure = new LongAdder();
+        LatencyRecorder latency = new LatencyRecorder();
+        MetricsEndpoint.LiveRun live = new MetricsEndpoint.LiveRun(spec.threadNamePrefix(), success, failure, latency);
+        // opened before any thread exists, so a bad path fails the run without anything to tear down
+        CheckpointWriter checkpoint = CheckpointWriter.start(spec, live);
+        if (spec.metrics() != null) spec.metrics().attach(live);
+
         ExecutorService pool = Executors.newFixedThreadPool(n, r -> {
-            Thread t = new Thread(r);
+            Thread t = new WorkerThread(r);
             t.setName(spec.threadNamePrefix() + "-" + THREAD_ID.incrementAndGet());
             t.setDaemon(true);
             t.setUncaughtExceptionHandler((th, ex) -> spec.errors().add(ex));
             return t;
         });
 
-        CyclicBarrier startBarrier = new CyclicBarrier(n + 1);
+        AtomicLong startedAt = new AtomicLong();
+        CpuSampler cpu = new CpuSampler(spec.cpuMetrics());
+        CyclicBarrier startBarrier = new CyclicBarrier(n + 1, () -> {
+            startedAt.set(System.nanoTime());
+            cpu.windowStart(spec.threadNamePrefix() + "-cpu-sampler");
+        });
         CountDownLatch doneLatch = new CountDownLatch(n);
 
-        AtomicBoolean cancel = new AtomicBoolean(false);
-        LongAdder success = new LongAdder();
-        LongAdder failure = new LongAdder();
-        LatencyRecorder latency = new LatencyRecorder();
+        Watchdog watchdog = new Watchdog(n, spec.stuckThreshold() == null ? 0 : spec.stuckThreshold().toNanos());
+        ConcurrentLinkedQueue<SlowOperation> slowest = new ConcurrentLinkedQueue<>();
+        // each worker's heap is drained once, by the worker or by the timeout path, whichever claims it first
+        AtomicReferenceArray<SlowestOps> heaps = new AtomicReferenceArray<>(n);
+        String[] workerNames = new String[n];
+        PhaseTimers phases = new PhaseTimers(spec.phases());
+        Fuzzer.Session fuzzing = new Fuzzer.Session(spec.fuzzSeed());
 
         for (int i = 0; i < n; i++) {
+            final int worker = i;
             pool.submit(() -> {
+                SlowestOps slow = new SlowestOps(spec.slowestK());
+                WorkerThread self = (WorkerThread) Thread.currentThread();
+                workerNames[worker] = self.getName();
+                heaps.set(worker, slow);
+                long[] cpuStart = null;
                 try {
+                    self.phases = phases.forThread();
+                    self.fuzzer = fuzzing.forWorker(worker);
+                    watchdog.register(worker, self);
                     startBarrier.await(); // synchronize start
+                    cpuStart = cpu.threadStart();
                     final long endAt = System.nanoTime() + spec.duration().toNanos();
+                    final Fuzzer fuzzer = self.fuzzer;
 
                     while (!cancel.get() && System.nanoTime() < endAt) {
                         final long s = System.nanoTime();
+                        watchdog.begin(worker, s);
+                        final long injected = fuzzer == null ? 0 : fuzzer.injections;
+                        boolean failed = false;
                         try {
                             spec.task().run();
                             success.increment();
                         } catch (Throwable t) {
+                            failed = true;
                             failure.increment();
                             spec.errors().add(t);
+                            if (fuzzer != null) fuzzer.failed(injected);
 
                             if (spec.maxPendingFailures() > 0 &&
                                     spec.errors().size() >= spec.maxPendingFailures()) {
@@ -61,40 +108,99 @@ public final class ConcurRunner {
                                 break;
                             }
                         } finally {
-                            latency.record(System.nanoTime() - s);
+                            final long elapsed = System.nanoTime() - s;
+                            latency.record(elapsed);
+                            slow.offer(elapsed, s, failed);
+                            watchdog.end(worker);
                         }
                     }
                 } catch (Exception e) {
                     spec.errors().add(e);
                 } finally {
+                    cpu.threadEnd(cpuStart);
+                    if (heaps.getAndSet(worker, null) != null) {
+                        List<SlowOperation> mine = new ArrayList<>();
+                        slow.drainTo(mine, startedAt.get(), self.getName(), spec.operationName());
+                        slowest.addAll(mine);
+                    }
+                    self.phases = null;
+                    self.fuzzer = null;
                     doneLatch.countDown();
                 }
             });
         }
 
-        // Release workers
+        watchdog.start(spec.threadNamePrefix() + "-watchdog");
+
+        // torn down in the finally: an interrupted caller must not leave the sampler, metrics or checkpoint running
+        boolean finished = false;
         try {
-            startBarrier.await();
-        } catch (BrokenBarrierException e) {
-            pool.shutdownNow();
-            throw new RuntimeException("start barrier broken", e);
+            // Release workers
+            try {
+                startBarrier.await();
+            } catch (BrokenBarrierException e) {
+                throw new RuntimeException("start barrier broken", e);
+            }
+
+            finished = doneLatch.await(spec.totalTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } finally {
+            cpu.windowEnd();
+            cpu.close(); // on timeout, hung workers' CPU figures are discarded anyway
+            pool.shutdown();
+            watchdog.stop();
+            if (spec.metrics() != null) spec.metrics().detach(live);
+            if (checkpoint != null) checkpoint.finish(!finished);
+            if (!finished) {
+                cancel.set(true);
+                watchdog.sweep(); // capture stacks before interrupting the workers
+                pool.shutdownNow();
+            }
         }
 
-        boolean finished = doneLatch.await(spec.totalTimeout().toMillis(), TimeUnit.MILLISECONDS);
-        pool.shutdown();
-
         if (!finished) {
-            cancel.set(true);
-            pool.shutdownNow();
-            throw new TimeoutException("concurrency test timed out after " + spec.totalTimeout());
+            // best-effort: a worker finishing an operation right now may still be writing its heap
+            List<SlowOperation> partialSlowest = new ArrayList<>(slowest);
+            for (int i = 0; i < n; i++) {
+                SlowestOps heap = heaps.getAndSet(i, null);
+                if (heap != null) heap.drainTo(partialSlowest, startedAt.get(), workerNames[i], spec.operationName());
+            }
+            RunStats partial = new RunStats(success.sum(), failure.sum(), spec.errors(), latency.snapshot(),
+                    watchdog.stuckOperations(), SlowestOps.top(partialSlowest, spec.slowestK()),
+                    phases.snapshot(), null, fuzzing.report(System.nanoTime() - startedAt.get()), null);
+            throw new TimeoutException("concurrency test timed out after " + spec.totalTimeout()
+                    + " (" + partial.stuckOperations().size() + " operations in flight)", partial);
         }
 
-        return new RunStats(success.sum(), failure.sum(), spec.errors(), latency.snapshot());
+        LatencySnapshot latencies = latency.snapshot();
+        return new RunStats(success.sum(), failure.sum(), spec.errors(), latencies,
+                watchdog.stuckOperations(), SlowestOps.top(new ArrayList<>(slowest), spec.slowestK()),
+                phases.snapshot(), cpu.snapshot(latencies.count(), latencies.sumNanos()),
+                fuzzing.report(System.nanoTime() - startedAt.get()), null);
     }
 
+    /**
+     * Thrown when {@code totalTimeout} elapses before all workers finish.
+     * Carries the statistics collected so far, including the stacks of the stuck workers.
+     */
     public static final class TimeoutException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private final transient RunStats partialStats;
+
         public TimeoutException(String message) {
+            this(message, null);
+        }
+
+        public TimeoutException(String message, RunStats partialStats) {
             super(message);
+            this.partialStats = partialStats;
+        }
+
+        /**
+         * Statistics up to the timeout, or {@code null} if none were collected.
+         */
+        public RunStats partialStats() {
+            return partialStats;
         }
     }
 }
@@ -0,0 +1,104 @@
+package io.github.concurspec;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hooks for code running inside a {@link RunSpec#task()}.
+ *
+ * <p>
+ * Sub-phase timers split an operation's latency into stages:
+ * </p>
+ *
+ * <pre>{@code
+ * static final ConcurSpec.Phase DB = ConcurSpec.phase("db");
+ *
+ * long t = DB.start();
+ * repository.load(id);
+ * DB.end(t);
+ * }</pre>
+ *
+ * <p>
+ * Phases must also be declared with {@link RunSpec.Builder#phases(String...)} so their
+ * per-thread histograms exist before workers start. Resolve handles once (e.g. in a
+ * {@code static final} field): {@link #phase(String)} does a map lookup, while
+ * {@link Phase#end(long)} does not allocate or look anything up. Calls outside a run,
+ * or for phases the running spec did not declare, are ignored.
+ * </p>
+ *
+ * <p>
+ * Interleaving points mark places where a race window may open (e.g. between a read
+ * and the dependent write). When the spec enables {@link RunSpec.Builder#fuzz(long)},
+ * the worker reaching a point may yield, spin or park briefly to widen that window;
+ * otherwise a point is a type check and nothing else.
+ * </p>
+ *
+ * <pre>{@code
+ * int v = counter.get();
+ * ConcurSpec.point("afterRead");
+ * counter.set(v + 1);
+ * }</pre>
+ */
+public final class ConcurSpec {
+    private static final ConcurrentHashMap<String, Phase> PHASES = new ConcurrentHashMap<>();
+    private static final AtomicInteger PHASE_IDS = new AtomicInteger();
+
+    private ConcurSpec() {
+    }
+
+    public static Phase phase(String name) {
+        Objects.requireNonNull(name, "name");
+        return PHASES.computeIfAbsent(name, n -> new Phase(n, PHASE_IDS.getAndIncrement()));
+    }
+
+    /**
+     * Interleaving point; {@code name} only documents the call site.
+     */
+    public static void point(String name) {
+        if (Thread.currentThread() instanceof WorkerThread w) {
+            Fuzzer f = w.fuzzer;
+            if (f != null) f.point();
+        }
+    }
+
+    /**
+     * Handle to a named sub-phase timer.
+     */
+    public static final class Phase {
+        private final String name;
+        final int id;
+
+        private Phase(String name, int id) {
+            this.name = name;
+            this.id = id;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public long start() {
+            return System.nanoTime();
+        }
+
+        public void end(long startNanos) {
+            record(System.nanoTime() - startNanos);
+        }
+
+        public void record(long nanos) {
+            if (Thread.currentThread() instanceof WorkerThread w) {
+                LatencyRecorder[] recorders = w.phases;
+                if (recorders != null && id < recorders.length) {
+                    LatencyRecorder r = recorders[id];
+                    if (r != null) r.record(nanos);
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package io.github.concurspec;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Collects {@link CpuStats} for one run.
+ * Per-thread figures are read by each worker at the start and end of its loop
+ * ({@code /proc/thread-self} on Linux), so nothing is sampled on the hot path.
+ */
+final class CpuSampler {
+    private static final long SAMPLE_PERIOD_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final Path THREAD_STATUS = Path.of("/proc/thread-self/status");
+    private static final Path THREAD_SCHEDSTAT = Path.of("/proc/thread-self/schedstat");
+    private static final Path LOADAVG = Path.of("/proc/loadavg");
+
+    // thread CPU timing is a JVM-wide switch: on while any sampling run is open, then put back
+    private static final Object CPU_TIME_LOCK = new Object();
+    private static int cpuTimeUsers;
+    private static boolean cpuTimeWasEnabled;
+
+    private final boolean enabled;
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    private final LongAdder workerCpu = new LongAdder();
+    private final LongAdder voluntary = new LongAdder();
+    private final LongAdder involuntary = new LongAdder();
+    private final LongAdder runQueueWait = new LongAdder();
+    private volatile boolean procAvailable = true;
+
+    private final LongAdder runnableSum = new LongAdder();
+    private final LongAdder runnableSamples = new LongAdder();
+    private final AtomicInteger maxRunnable = new AtomicInteger(-1);
+
+    private long startNanos, endNanos;
+    private long processCpuStart, processCpuEnd;
+    private volatile Thread sampler;
+    private boolean holdsCpuTime;
+
+    CpuSampler(boolean enabled) {
+        this.enabled = enabled;
+        if (enabled && threads.isCurrentThreadCpuTimeSupported()) {
+            synchronized (CPU_TIME_LOCK) {
+                if (cpuTimeUsers++ == 0) {
+                    cpuTimeWasEnabled = threads.isThreadCpuTimeEnabled();
+                    if (!cpuTimeWasEnabled) threads.setThreadCpuTimeEnabled(true);
+                }
+            }
+            holdsCpuTime = true;
+        }
+    }
+
+    /**
+     * Restores the JVM's thread CPU timing setting once no other run is sampling.
+     * Call after the workers have read their end counters.
+     */
+    void close() {
+        if (!holdsCpuTime) return;
+        holdsCpuTime = false;
+        synchronized (CPU_TIME_LOCK) {
+            if (--cpuTimeUsers == 0 && !cpuTimeWasEnabled) threads.setThreadCpuTimeEnabled(false);
+        }
+    }
+
+    /**
+     * Called by the thread that releases the workers, right as they are released.
+     */
+    void windowStart(String name) {
+        if (!enabled) return;
+        startNanos = System.nanoTime();
+        processCpuStart = processCpuTime();
+
+        Thread t = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                sampleLoadavg();
+                LockSupport.parkNanos(SAMPLE_PERIOD_NANOS);
+            }
+        }, name);
+        t.setDaemon(true);
+        sampler = t;
+        t.start();
+    }
+
+    void windowEnd() {
+        if (!enabled) return;
+        endNanos = System.nanoTime();
+        processCpuEnd = processCpuTime();
+        Thread t = sampler;
+        if (t != null) t.interrupt();
+    }
+
+    /**
+     * Per-thread counters of the calling worker: {cpu, voluntary, involuntary, runQueueWait}.
+     */
+    long[] threadStart() {
+        return enabled ? readThread() : null;
+    }
+
+    void threadEnd(long[] start) {
+        if (start == null) return;
+        long[] end = readThread();
+        workerCpu.add(end[0] - start[0]);
+        voluntary.add(end[1] - start[1]);
+        involuntary.add(end[2] - start[2]);
+        runQueueWait.add(end[3] - start[3]);
+    }
+
+    CpuStats snapshot(long operations, long operationNanos) {
+        if (!enabled) return null;
+        long samples = runnableSamples.sum();
+        boolean proc = procAvailable;
+        return new CpuStats(
+                endNanos - startNanos,
+                processCpuStart < 0 ? -1 : processCpuEnd - processCpuStart,
+                threads.isCurrentThreadCpuTimeSupported() ? workerCpu.sum() : -1,
+                operationNanos,
+                operations,
+                proc ? voluntary.sum() : -1,
+                proc ? involuntary.sum() : -1,
+                proc ? runQueueWait.sum() : -1,
+                samples == 0 ? -1 : runnableSum.sum() / (double) samples,
+                maxRunnable.get());
+    }
+
+    private long[] readThread() {
+        long[] v = new long[4];
+        v[0] = threads.isCurrentThreadCpuTimeSupported() ? threads.getCurrentThreadCpuTime() : 0;
+        if (!procAvailable) return v;
+        try {
+            for (String line : Files.readAllLines(THREAD_STATUS)) {
+                if (line.startsWith("voluntary_ctxt_switches:")) v[1] = parseLong(line);
+                else if (line.startsWith("nonvoluntary_ctxt_switches:")) v[2] = parseLong(line);
+            }
+            // schedstat: <on-cpu ns> <run-queue wait ns> <timeslices>
+            String[] sched = Files.readString(THREAD_SCHEDSTAT).trim().split("\\s+");
+            v[3] = Long.parseLong(sched[1]);
+        } catch (IOException | RuntimeException e) {
+            procAvailable = false;
+        }
+        return v;
+    }
+
+    private void sampleLoadavg() {
+        try {
+            // e.g. "0.52 0.58 0.59 3/467 12345" -> 3 runnable
+            String[] fields = Files.readString(LOADAVG).trim().split("\\s+");
+            int runnable = Integer.parseInt(fields[3].substring(0, fields[3].indexOf('/')));
+            runnableSum.add(runnable);
+            runnableSamples.increment();
+            maxRunnable.accumulateAndGet(runnable, Math::max);
+        } catch (IOException | RuntimeException e) {
+            Thread.currentThread().interrupt(); // not Linux: stop sampling
+        }
+    }
+
+    private static long parseLong(String line) {
+        return Long.parseLong(line.substring(line.indexOf(':') + 1).trim());
+    }
+
+    private static long processCpuTime() {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean sun) {
+            return sun.getProcessCpuTime();
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.concurspec;
+
+/**
+ * CPU and scheduler figures sampled over the measured window of a run.
+ * Linux-only values ({@code /proc}) are {@code -1} when unavailable.
+ *
+ * <ul>
+ *   <li>{@code processCpuNanos}: whole-process CPU time, including GC, JIT and non-worker threads</li>
+ *   <li>{@code workerCpuNanos}: CPU time of the worker threads only</li>
+ *   <li>{@code operationNanos}: wall time workers spent inside the task (sum of latencies)</li>
+ *   <li>{@code runQueueWaitNanos}: time workers were runnable but waiting for a CPU</li>
+ *   <li>{@code avgRunnable}/{@code maxRunnable}: system-wide runnable tasks from {@code /proc/loadavg}</li>
+ * </ul>
+ */
+public record CpuStats(
+        long wallNanos,
+        long processCpuNanos,
+        long workerCpuNanos,
+        long operationNanos,
+        long operations,
+        long voluntaryContextSwitches,
+        long involuntaryContextSwitches,
+        long runQueueWaitNanos,
+        double avgRunnable,
+        int maxRunnable
+) {
+    /**
+     * Operations per second of process CPU (worker CPU if process CPU is unavailable).
+     */
+    public double opsPerCpuSecond() {
+        long cpu = processCpuNanos > 0 ? processCpuNanos : workerCpuNanos;
+        return cpu <= 0 ? 0 : operations / (cpu / 1e9);
+    }
+
+    /**
+     * Fraction of operation latency spent on a CPU. Low values mean the workers were
+     * mostly waiting (locks, I/O, run queue) rather than burning cycles.
+     */
+    public double onCpuShare() {
+        if (operationNanos <= 0 || workerCpuNanos < 0) return 0;
+        return Math.min(1.0, workerCpuNanos / (double) operationNanos);
+    }
+
+    public double offCpuShare() {
+        return operationNanos <= 0 ? 0 : 1.0 - onCpuShare();
+    }
+
+    /**
+     * Combines figures from several processes (e.g. {@link ForkedRunner} workers).
+     */
+    CpuStats merge(CpuStats o) {
+        return new CpuStats(
+                Math.max(wallNanos, o.wallNanos),
+                sum(processCpuNanos, o.processCpuNanos),
+                sum(workerCpuNanos, o.workerCpuNanos),
+                operationNanos + o.operationNanos,
+                operations + o.operations,
+                sum(voluntaryContextSwitches, o.voluntaryContextSwitches),
+                sum(involuntaryContextSwitches, o.involuntaryContextSwitches),
+                sum(runQueueWaitNanos, o.runQueueWaitNanos),
+                Math.max(avgRunnable, o.avgRunnable), // system-wide, so not additive
+                Math.max(maxRunnable, o.maxRunnable));
+    }
+
+    private static long sum(long a, long b) {
+        return a < 0 || b < 0 ? -1 : a + b;
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.concurspec;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Immutable specification for a multi-process {@link ForkedRunner} execution.
+ *
+ * <p>
+ * A {@code RunSpec} holds a {@link Runnable} and therefore cannot be shipped to
+ * another JVM. Instead, each worker process instantiates {@link #specFactory()}
+ * (a public class with a public no-arg constructor) and runs its own slice of the
+ * resulting spec's threads.
+ * </p>
+ */
+public record ForkSpec(
+        int processes,
+        Class<? extends Supplier<RunSpec>> specFactory,
+        List<String> jvmArgs,
+        Duration startupTimeout
+) {
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private int processes = 2;
+        private Class<? extends Supplier<RunSpec>> specFactory;
+        private final List<String> jvmArgs = new ArrayList<>();
+        private Duration startupTimeout = Duration.ofSeconds(30);
+
+        public Builder processes(int v) {
+            this.processes = v;
+            return this;
+        }
+
+        public Builder specFactory(Class<? extends Supplier<RunSpec>> v) {
+            this.specFactory = v;
+            return this;
+        }
+
+        public Builder jvmArg(String v) {
+            this.jvmArgs.add(v);
+            return this;
+        }
+
+        public Builder startupTimeout(Duration v) {
+            this.startupTimeout = v;
+            return this;
+        }
+
+        public ForkSpec build() {
+            if (processes <= 0) {
+                throw new IllegalArgumentException("processes must be > 0");
+            }
+            if (specFactory == null) {
+                throw new IllegalArgumentException("specFactory must not be null");
+            }
+            if (startupTimeout == null || startupTimeout.isZero() || startupTimeout.isNegative()) {
+                throw new IllegalArgumentException("startupTimeout must be positive");
+            }
+            return new ForkSpec(processes, specFactory, List.copyOf(jvmArgs), startupTimeout);
+        }
+    }
+}
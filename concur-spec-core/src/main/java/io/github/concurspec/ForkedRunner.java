@@ -0,0 +1,181 @@
+package io.github.concurspec;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Multi-process load generator.
+ * - Forks N local worker JVMs, each running a slice of the spec's threads
+ * - All processes start together (socket barrier on loopback)
+ * - Counters and histograms are streamed back and merged into one {@link RunStats}
+ *
+ * <p>
+ * Keeps GC, safepoints and counter contention of the load generator out of any
+ * single JVM. Worker processes inherit this JVM's classpath.
+ * </p>
+ */
+public final class ForkedRunner {
+    private static final long RESULT_GRACE_MILLIS = 5_000;
+
+    private ForkedRunner() {
+    }
+
+    public static RunStats run(ForkSpec fork) throws InterruptedException {
+        return run(fork, (command, index) -> new ProcessBuilder(command).inheritIO().start());
+    }
+
+    static RunStats run(ForkSpec fork, Launcher launcher) throws InterruptedException {
+        Objects.requireNonNull(fork, "fork");
+
+        RunSpec spec = newSpec(fork.specFactory());
+        if (spec.pipeline() != null) {
+            throw new IllegalArgumentException("pipeline specs cannot be forked: their queue lives in one process");
+        }
+        int n = fork.processes();
+        ForkedWorker.slice(spec, 0, n, spec.fuzzSeed()); // validate threads >= processes before forking
+
+        List<Process> processes = new ArrayList<>(n);
+        List<Socket> sockets = new ArrayList<>(n);
+        // workers connect in any order; everything after the handshake is keyed by worker index
+        Socket[] byIndex = new Socket[n];
+        DataInputStream[] ins = new DataInputStream[n];
+        DataOutputStream[] outs = new DataOutputStream[n];
+
+        try (ServerSocket server = new ServerSocket(0, n, InetAddress.getLoopbackAddress())) {
+            for (int i = 0; i < n; i++) {
+                processes.add(launcher.start(command(fork, server.getLocalPort(), i, spec.fuzzSeed()), i));
+            }
+
+            // Wait for every worker to report READY
+            long readyBy = System.nanoTime() + fork.startupTimeout().toNanos();
+            for (int i = 0; i < n; i++) {
+                server.setSoTimeout(remainingMillis(readyBy));
+                Socket socket = server.accept();
+                sockets.add(socket);
+                socket.setTcpNoDelay(true);
+                socket.setSoTimeout(remainingMillis(readyBy));
+
+                DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+                int index = in.readInt();
+                if (in.readByte() != ForkedWorker.OK) {
+                    throw new IllegalStateException("worker " + index + " failed to start: " + in.readUTF());
+                }
+                byIndex[index] = socket;
+                ins[index] = in;
+                outs[index] = new DataOutputStream(socket.getOutputStream());
+            }
+
+            // Release workers
+            for (DataOutputStream out : outs) {
+                out.writeByte(ForkedWorker.GO);
+                out.flush();
+            }
+
+            long doneBy = System.nanoTime() + spec.totalTimeout().toNanos() + TimeUnit.MILLISECONDS.toNanos(RESULT_GRACE_MILLIS);
+            return collect(spec, ins, byIndex, doneBy);
+        } catch (SocketTimeoutException e) {
+            throw new ConcurRunner.TimeoutException("forked run timed out: " + e.getMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException("forked run failed", e);
+        } finally {
+            for (Socket s : sockets) closeQuietly(s);
+            for (Process p : processes) {
+                if (!p.waitFor(1, TimeUnit.SECONDS)) p.destroyForcibly();
+            }
+        }
+    }
+
+    private static RunStats collect(RunSpec spec, DataInputStream[] ins, Socket[] sockets, long doneBy) throws IOException {
+        long success = 0, failure = 0;
+        ConcurrentLinkedQueue<Throwable> errors = new ConcurrentLinkedQueue<>();
+        LatencySnapshot latency = LatencySnapshot.empty();
+        List<StuckOperation> stuck = new ArrayList<>();
+        List<SlowOperation> slowest = new ArrayList<>();
+        Map<String, LatencySnapshot> phases = new LinkedHashMap<>();
+        CpuStats cpu = null;
+        // workers fuzz with seeds derived from the coordinator's, so that one seed replays the run
+        FuzzReport fuzz = spec.fuzzSeed() == null ? null : new FuzzReport(spec.fuzzSeed(), 0, 0, 0, 0);
+        boolean timedOut = false;
+
+        for (int i = 0; i < ins.length; i++) {
+            sockets[i].setSoTimeout(remainingMillis(doneBy));
+            byte status = ins[i].readByte();
+            RunStats part = RunStatsCodec.read(ins[i]);
+
+            timedOut |= status == ForkedWorker.TIMED_OUT;
+            success += part.successCount();
+            failure += part.failureCount();
+            errors.addAll(part.errors());
+            latency = latency.merge(part.latency());
+            stuck.addAll(part.stuckOperations());
+            slowest.addAll(part.slowestOperations());
+            part.phases().forEach((name, s) -> phases.merge(name, s, LatencySnapshot::merge));
+            if (part.cpu() != null) cpu = cpu == null ? part.cpu() : cpu.merge(part.cpu());
+            if (fuzz != null && part.fuzz() != null) fuzz = fuzz.merge(part.fuzz());
+        }
+
+        RunStats merged = new RunStats(success, failure, errors, latency, stuck,
+                SlowestOps.top(slowest, spec.slowestK()), phases, cpu, fuzz, null);
+        if (timedOut) {
+            throw new ConcurRunner.TimeoutException("concurrency test timed out after " + spec.totalTimeout(), merged);
+        }
+        return merged;
+    }
+
+    private static List<String> command(ForkSpec fork, int port, int index, Long fuzzSeed) {
+        List<String> cmd = new ArrayList<>();
+        cmd.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        cmd.addAll(fork.jvmArgs());
+        cmd.add("-cp");
+        cmd.add(System.getProperty("java.class.path"));
+        cmd.add(ForkedWorker.class.getName());
+        cmd.add(fork.specFactory().getName());
+        cmd.add(Integer.toString(port));
+        cmd.add(Integer.toString(index));
+        cmd.add(Integer.toString(fork.processes()));
+        cmd.add(fuzzSeed == null ? "-" : Long.toString(fuzzSeed));
+        return cmd;
+    }
+
+    /**
+     * Starts the worker JVM for {@code index}; a seam for tests that need to control startup.
+     */
+    interface Launcher {
+        Process start(List<String> command, int index) throws IOException;
+    }
+
+    @SuppressWarnings("unchecked")
+    static RunSpec newSpec(Class<?> factory) {
+        try {
+            Supplier<RunSpec> supplier = (Supplier<RunSpec>) factory.getDeclaredConstructor().newInstance();
+            return Objects.requireNonNull(supplier.get(), "specFactory returned null");
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("specFactory needs a public no-arg constructor: " + factory.getName(), e);
+        }
+    }
+
+    private static int remainingMillis(long deadlineNanos) throws SocketTimeoutException {
+        long ms = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+        if (ms <= 0) throw new SocketTimeoutException("deadline exceeded");
+        return (int) Math.min(ms, Integer.MAX_VALUE);
+    }
+
+    private static void closeQuietly(Closeable c) {
+        try {
+            c.close();
+        } catch (IOException ignored) {
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.concurspec;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.Socket;
+
+/**
+ * Entry point of a worker JVM forked by {@link ForkedRunner}.
+ * Args: {@code <specFactory> <port> <index> <processes> <fuzzSeed|->}
+ */
+final class ForkedWorker {
+    static final byte GO = 1;
+    static final byte OK = 0;
+    static final byte TIMED_OUT = 1;
+    static final byte FAILED = 2;
+
+    private ForkedWorker() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String factory = args[0];
+        int port = Integer.parseInt(args[1]);
+        int index = Integer.parseInt(args[2]);
+        int processes = Integer.parseInt(args[3]);
+        Long fuzzSeed = args[4].equals("-") ? null : Long.parseLong(args[4]);
+
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            socket.setTcpNoDelay(true);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+
+            RunSpec slice;
+            try {
+                slice = slice(ForkedRunner.newSpec(Class.forName(factory)), index, processes, fuzzSeed);
+            } catch (Throwable t) {
+                out.writeInt(index);
+                out.writeByte(FAILED);
+                out.writeUTF(t.toString());
+                out.flush();
+                return;
+            }
+
+            // READY, then block until every process is ready
+            out.writeInt(index);
+            out.writeByte(OK);
+            out.flush();
+            if (in.readByte() != GO) return;
+
+            byte status = OK;
+            RunStats stats;
+            try {
+                stats = ConcurRunner.run(slice);
+            } catch (ConcurRunner.TimeoutException e) {
+                status = TIMED_OUT;
+                stats = e.partialStats();
+            }
+
+            out.writeByte(status);
+            RunStatsCodec.write(out, stats);
+            out.flush();
+        }
+    }
+
+    /**
+     * This process's share of {@code spec}. With fuzzing on, the coordinator's {@code fuzzSeed}
+     * replaces the one this JVM picked, so the whole forked run replays from a single seed.
+     */
+    static RunSpec slice(RunSpec spec, int index, int processes, Long fuzzSeed) {
+        if (spec.threads() < processes) {
+            throw new IllegalArgumentException("threads (" + spec.threads() + ") must be >= processes (" + processes + ")");
+        }
+        int threads = spec.threads() / processes + (index < spec.threads() % processes ? 1 : 0);
+        RunSpec.Builder builder = spec.toBuilder();
+        if (spec.fuzzSeed() != null && fuzzSeed != null) builder.fuzz(Fuzzer.processSeed(fuzzSeed, index));
+        return builder
+                .threads(threads)
+                .threadNamePrefix(spec.threadNamePrefix() + "-p" + index)
+                .checkpoint(spec.checkpointFile() == null ? null
+                                : spec.checkpointFile().resolveSibling(spec.checkpointFile().getFileName() + ".p" + index),
+                        spec.checkpointInterval())
+                .build();
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.concurspec;
+
+/**
+ * Outcome of an interleaving-fuzzing run (see {@link RunSpec.Builder#fuzz(long)}).
+ * {@code racesFound} counts failed operations during which their worker had a delay
+ * injected; failures on unperturbed operations are not attributed to fuzzing.
+ * Re-run with {@code seed} to replay the same per-worker sequence of injected delays.
+ * In a {@link ForkedRunner} run, {@code seed} is the coordinator's: every process
+ * derives its own seed from it, so passing it to {@code fuzz(seed)} in the spec
+ * factory replays all processes.
+ */
+public record FuzzReport(
+        long seed,
+        long pointHits,
+        long injections,
+        long racesFound,
+        long elapsedNanos
+) {
+    public double racesPerSecond() {
+        return elapsedNanos <= 0 ? 0 : racesFound / (elapsedNanos / 1e9);
+    }
+
+    /**
+     * Sums the counters of another process's report, keeping this report's seed.
+     */
+    FuzzReport merge(FuzzReport o) {
+        return new FuzzReport(seed, pointHits + o.pointHits, injections + o.injections,
+                racesFound + o.racesFound, Math.max(elapsedNanos, o.elapsedNanos));
+    }
+}
@@ -0,0 +1,85 @@
+package io.github.concurspec;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Per-worker schedule perturbation for {@link ConcurSpec#point(String)}.
+ * Owned by one worker thread; its counters are read after the worker finishes.
+ */
+final class Fuzzer {
+    // 1 in 4 points gets a perturbation; the rest run through untouched
+    private static final int CHOICES = 16;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final SplittableRandom random;
+    long hits;
+    long injections;
+    long races;
+
+    private Fuzzer(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Seed of forked process {@code process} in a run seeded with {@code seed}.
+     * Mixed rather than XOR-ed so it cannot collide with the per-worker derivation below.
+     */
+    static long processSeed(long seed, int process) {
+        return new SplittableRandom(seed + GOLDEN_GAMMA * (process + 1)).nextLong();
+    }
+
+    void point() {
+        hits++;
+        int choice = random.nextInt(CHOICES);
+        if (choice >= 4) return;
+        injections++;
+        switch (choice) {
+            case 0 -> Thread.yield();
+            case 1 -> {
+                for (int i = random.nextInt(1, 1_000); i > 0; i--) Thread.onSpinWait();
+            }
+            case 2 -> LockSupport.parkNanos(random.nextLong(1_000, 10_000));
+            default -> LockSupport.parkNanos(random.nextLong(10_000, 100_000));
+        }
+    }
+
+    /**
+     * Counts a failed operation as a race if this worker injected a perturbation during it,
+     * i.e. since {@code injectionsAtStart} was read from {@link #injections}.
+     */
+    void failed(long injectionsAtStart) {
+        if (injections != injectionsAtStart) races++;
+    }
+
+    /**
+     * Run-level bookkeeping: hands out per-worker fuzzers and sums their counters.
+     */
+    static final class Session {
+        private final Long seed;
+        private final ConcurrentLinkedQueue<Fuzzer> fuzzers = new ConcurrentLinkedQueue<>();
+
+        Session(Long seed) {
+            this.seed = seed;
+        }
+
+        Fuzzer forWorker(int worker) {
+            if (seed == null) return null;
+            Fuzzer f = new Fuzzer(seed ^ (GOLDEN_GAMMA * (worker + 1)));
+            fuzzers.add(f);
+            return f;
+        }
+
+        FuzzReport report(long elapsedNanos) {
+            if (seed == null) return null;
+            long hits = 0, injections = 0, races = 0;
+            for (Fuzzer f : fuzzers) {
+                hits += f.hits;
+                injections += f.injections;
+                races += f.races;
+            }
+            return new FuzzReport(seed, hits, injections, races, elapsedNanos);
+        }
+    }
+}
@@ -37,6 +37,7 @@ final class LatencyRecorder {
             cs[i] = v;
             total += v;
         }
-        return new LatencySnapshot(cs, total, min.get() == Long.MAX_VALUE ? 0 : min.get(), max.get(), sum.sum());
+        return new LatencySnapshot(cs, total, min.get() == Long.MAX_VALUE ? 0 : min.get(),
+                max.get() == Long.MIN_VALUE ? 0 : max.get(), sum.sum());
     }
 }
@@ -1,6 +1,10 @@
 package io.github.concurspec;
 
-final class LatencySnapshot {
+/**
+ * Immutable log2-bucket latency histogram (nanoseconds).
+ * Percentiles report the upper bound of the bucket they fall into.
+ */
+public final class LatencySnapshot {
     private final long[] buckets; // counts per log2 bucket
     private final long count;
     private final long min, max, sum;
@@ -13,35 +17,68 @@ final class LatencySnapshot {
         this.sum = sum;
     }
 
-    long count() {
+    public long count() {
         return count;
     }
 
-    long minNanos() {
+    public long minNanos() {
         return min;
     }
 
-    long maxNanos() {
+    public long maxNanos() {
         return max;
     }
 
-    long avgNanos() {
+    long sumNanos() {
+        return sum;
+    }
+
+    long[] buckets() {
+        return buckets.clone();
+    }
+
+    public long avgNanos() {
         return count == 0 ? 0 : sum / count;
     }
 
-    long p50Nanos() {
+    public long p50Nanos() {
         return percentile(0.50);
     }
 
-    long p95Nanos() {
+    public long p95Nanos() {
         return percentile(0.95);
     }
 
-    long p99Nanos() {
+    public long p99Nanos() {
         return percentile(0.99);
     }
 
-    long percentile(double p) {
+    /**
+     * Combines two snapshots bucket by bucket (e.g. histograms from several processes).
+     */
+    LatencySnapshot merge(LatencySnapshot other) {
+        if (other.count == 0) return this;
+        if (count == 0) return other;
+        long[] cs = new long[buckets.length];
+        for (int i = 0; i < cs.length; i++) cs[i] = buckets[i] + other.buckets[i];
+        return new LatencySnapshot(cs, count + other.count, Math.min(min, other.min), Math.max(max, other.max), sum + other.sum);
+    }
+
+    /**
+     * Distribution of the values recorded after {@code earlier} was taken from the same recorder.
+     * Min and max cannot be recovered for the interval, so they are those of this snapshot.
+     */
+    LatencySnapshot since(LatencySnapshot earlier) {
+        long[] cs = new long[buckets.length];
+        for (int i = 0; i < cs.length; i++) cs[i] = buckets[i] - earlier.buckets[i];
+        return new LatencySnapshot(cs, count - earlier.count, min, max, sum - earlier.sum);
+    }
+
+    static LatencySnapshot empty() {
+        return new LatencySnapshot(new long[64], 0, 0, 0, 0);
+    }
+
+    public long percentile(double p) {
         if (count == 0) {
             return 0;
         }
@@ -0,0 +1,200 @@
+package io.github.concurspec;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live OpenMetrics endpoint for runs in progress (JDK-only, {@code com.sun.net.httpserver}).
+ *
+ * <pre>{@code
+ * try (MetricsEndpoint metrics = MetricsEndpoint.start(9464)) {
+ *     ConcurRunner.run(RunSpec.builder().metrics(metrics).task(task).build());
+ * }
+ * }</pre>
+ *
+ * <p>
+ * Serves {@code http://localhost:<port>/metrics}: operation counters, current ops/s and
+ * latency quantiles over a rolling window. Scrapes only read the runner's adders and
+ * histogram buckets, so workers are never paused. After a run ends its final values stay
+ * visible (with {@code concurspec_running 0}) until the next run attaches.
+ * </p>
+ */
+public final class MetricsEndpoint implements AutoCloseable {
+    private static final String CONTENT_TYPE = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+    private static final double[] QUANTILES = {0.5, 0.9, 0.95, 0.99, 0.999};
+
+    private final HttpServer server;
+    private final long windowNanos;
+    // scrape history for the rolling window; touched by scrapes only, never by workers
+    private final ArrayDeque<Sample> history = new ArrayDeque<>();
+    private volatile LiveRun current;
+
+    private MetricsEndpoint(HttpServer server, Duration window) {
+        this.server = server;
+        this.windowNanos = window.toNanos();
+    }
+
+    public static MetricsEndpoint start(int port) {
+        return start(port, Duration.ofSeconds(30));
+    }
+
+    /**
+     * Binds to {@code localhost:port} ({@code 0} picks a free port).
+     * Quantiles and ops/s cover at least the last {@code window} between scrapes.
+     */
+    public static MetricsEndpoint start(int port, Duration window) {
+        Objects.requireNonNull(window, "window");
+        if (window.isZero() || window.isNegative()) {
+            throw new IllegalArgumentException("window must be positive");
+        }
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+            MetricsEndpoint endpoint = new MetricsEndpoint(server, window);
+            server.createContext("/metrics", endpoint::handle);
+            server.start();
+            return endpoint;
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot bind metrics endpoint on port " + port, e);
+        }
+    }
+
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    void attach(LiveRun run) {
+        synchronized (history) {
+            history.clear();
+        }
+        current = run;
+    }
+
+    void detach(LiveRun run) {
+        run.running = false;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        byte[] body = render().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    String render() {
+        StringBuilder sb = new StringBuilder();
+        LiveRun run = current;
+        if (run == null) {
+            gauge(sb, "concurspec_running", "Whether a run is in progress.", "", 0);
+            return sb.append("# EOF\n").toString();
+        }
+
+        long now = System.nanoTime();
+        LatencySnapshot latest = run.latency.snapshot();
+        Sample baseline = rollWindow(run, new Sample(now, latest));
+        LatencySnapshot window = latest.since(baseline.latency);
+        double seconds = (now - baseline.atNanos) / 1e9;
+        String labels = "run=\"" + escape(run.name) + "\"";
+
+        gauge(sb, "concurspec_running", "Whether a run is in progress.", labels, run.running ? 1 : 0);
+
+        sb.append("# TYPE concurspec_operations counter\n");
+        sb.append("# HELP concurspec_operations Operations completed by the run.\n");
+        sb.append("concurspec_operations_total{").append(labels).append(",outcome=\"success\"} ")
+                .append(run.success.sum()).append('\n');
+        sb.append("concurspec_operations_total{").append(labels).append(",outcome=\"failure\"} ")
+                .append(run.failure.sum()).append('\n');
+
+        gauge(sb, "concurspec_ops_per_second", "Operations per second over the rolling window.", labels,
+                seconds <= 0 ? 0 : window.count() / seconds);
+
+        sb.append("# TYPE concurspec_latency_seconds summary\n");
+        sb.append("# HELP concurspec_latency_seconds Operation latency; quantiles over the rolling window.\n");
+        for (double q : QUANTILES) {
+            sb.append("concurspec_latency_seconds{").append(labels).append(",quantile=\"").append(q).append("\"} ")
+                    .append(format(window.count() == 0 ? 0 : window.percentile(q) / 1e9)).append('\n');
+        }
+        sb.append("concurspec_latency_seconds_sum{").append(labels).append("} ")
+                .append(format(latest.sumNanos() / 1e9)).append('\n');
+        sb.append("concurspec_latency_seconds_count{").append(labels).append("} ")
+                .append(latest.count()).append('\n');
+
+        return sb.append("# EOF\n").toString();
+    }
+
+    /**
+     * Records {@code latest} and returns the newest sample at least one window old
+     * (or the oldest one, early in the run).
+     */
+    private Sample rollWindow(LiveRun run, Sample latest) {
+        synchronized (history) {
+            if (history.isEmpty()) history.addLast(new Sample(run.startedAtNanos, LatencySnapshot.empty()));
+            history.addLast(latest);
+            while (history.size() > 2) {
+                Iterator<Sample> it = history.iterator();
+                it.next();
+                Sample second = it.next();
+                if (latest.atNanos - second.atNanos < windowNanos) break;
+                history.removeFirst();
+            }
+            return history.peekFirst();
+        }
+    }
+
+    private static void gauge(StringBuilder sb, String name, String help, String labels, double value) {
+        sb.append("# TYPE ").append(name).append(" gauge\n");
+        sb.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        sb.append(name);
+        if (!labels.isEmpty()) sb.append('{').append(labels).append('}');
+        sb.append(' ').append(format(value)).append('\n');
+    }
+
+    private static String format(double v) {
+        return v == Math.rint(v) && !Double.isInfinite(v) ? Long.toString((long) v) : Double.toString(v);
+    }
+
+    private static String escape(String v) {
+        return v.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private record Sample(long atNanos, LatencySnapshot latency) {
+    }
+
+    /**
+     * Live counters of the run currently attached to an endpoint.
+     */
+    static final class LiveRun {
+        final String name;
+        final LongAdder success;
+        final LongAdder failure;
+        final LatencyRecorder latency;
+        final long startedAtNanos;
+        volatile boolean running = true;
+
+        LiveRun(String name, LongAdder success, LongAdder failure, LatencyRecorder latency) {
+            this.name = name;
+            this.success = success;
+            this.failure = failure;
+            this.latency = latency;
+            this.startedAtNanos = System.nanoTime();
+        }
+    }
+}
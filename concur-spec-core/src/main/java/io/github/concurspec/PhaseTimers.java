@@ -0,0 +1,41 @@
+package io.github.concurspec;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Per-thread sub-phase histograms of one run, merged by phase name at the end.
+ */
+final class PhaseTimers {
+    private final List<ConcurSpec.Phase> phases;
+    private final int slots;
+    private final ConcurrentLinkedQueue<LatencyRecorder[]> perThread = new ConcurrentLinkedQueue<>();
+
+    PhaseTimers(List<String> names) {
+        this.phases = names.stream().map(ConcurSpec::phase).toList();
+        this.slots = phases.stream().mapToInt(p -> p.id + 1).max().orElse(0);
+    }
+
+    /**
+     * Allocates the calling worker's recorders; called once per worker, before the start barrier.
+     */
+    LatencyRecorder[] forThread() {
+        if (phases.isEmpty()) return null;
+        LatencyRecorder[] recorders = new LatencyRecorder[slots];
+        for (ConcurSpec.Phase p : phases) recorders[p.id] = new LatencyRecorder();
+        perThread.add(recorders);
+        return recorders;
+    }
+
+    Map<String, LatencySnapshot> snapshot() {
+        Map<String, LatencySnapshot> out = new LinkedHashMap<>();
+        for (ConcurSpec.Phase p : phases) {
+            LatencySnapshot merged = LatencySnapshot.empty();
+            for (LatencyRecorder[] recorders : perThread) merged = merged.merge(recorders[p.id].snapshot());
+            out.put(p.name(), merged);
+        }
+        return out;
+    }
+}
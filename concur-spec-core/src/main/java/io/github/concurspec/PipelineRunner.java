@@ -0,0 +1,261 @@
+package io.github.concurspec;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Producer/consumer orchestrator behind {@link ConcurRunner} when a spec has a {@link PipelineSpec}.
+ * - Producers and consumers start together (barrier)
+ * - Producers run until duration elapses; consumers then drain what was enqueued
+ * - Queue wait, service and end-to-end latency are recorded per item; depth is sampled
+ */
+final class PipelineRunner {
+    private static final long POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final AtomicInteger THREAD_ID = new AtomicInteger();
+
+    private final RunSpec spec;
+    private final PipelineSpec<Object> pipeline;
+
+    private final AtomicLong startedAt = new AtomicLong();
+    private final AtomicBoolean cancel = new AtomicBoolean(false);
+    private final LongAdder produced = new LongAdder();
+    private final LongAdder consumed = new LongAdder();
+    private final LongAdder settled = new LongAdder();
+    private final LongAdder failure = new LongAdder();
+    private final LatencyRecorder queueWait = new LatencyRecorder();
+    private final LatencyRecorder service = new LatencyRecorder();
+    private final LatencyRecorder endToEnd = new LatencyRecorder();
+    private final ConcurrentLinkedQueue<PipelineStats.DepthSample> depth = new ConcurrentLinkedQueue<>();
+    private final PhaseTimers phases;
+    private final Fuzzer.Session fuzzing;
+
+    @SuppressWarnings("unchecked")
+    private PipelineRunner(RunSpec spec) {
+        this.spec = spec;
+        this.pipeline = (PipelineSpec<Object>) spec.pipeline();
+        this.phases = new PhaseTimers(spec.phases());
+        this.fuzzing = new Fuzzer.Session(spec.fuzzSeed());
+    }
+
+    static RunStats run(RunSpec spec) throws InterruptedException {
+        return new PipelineRunner(spec).execute();
+    }
+
+    private RunStats execute() throws InterruptedException {
+        boolean queued = pipeline.queue() != null;
+        int producers = pipeline.producers();
+        int consumers = queued ? pipeline.consumers() : 0;
+        int n = producers + consumers;
+
+        MetricsEndpoint.LiveRun live = new MetricsEndpoint.LiveRun(spec.threadNamePrefix(), consumed, failure, endToEnd);
+        CheckpointWriter checkpoint = CheckpointWriter.start(spec, live);
+        if (spec.metrics() != null) spec.metrics().attach(live);
+
+        ExecutorService pool = Executors.newFixedThreadPool(n, r -> {
+            Thread t = new WorkerThread(r);
+            t.setName(spec.threadNamePrefix() + "-" + THREAD_ID.incrementAndGet());
+            t.setDaemon(true);
+            t.setUncaughtExceptionHandler((th, ex) -> spec.errors().add(ex));
+            return t;
+        });
+
+        CyclicBarrier startBarrier = new CyclicBarrier(n + 1, () -> startedAt.set(System.nanoTime()));
+        CountDownLatch producersDone = new CountDownLatch(producers);
+        CountDownLatch consumersDone = new CountDownLatch(consumers);
+
+        for (int i = 0; i < producers; i++) {
+            final int worker = i;
+            pool.submit(() -> worker("producer", worker, startBarrier, producersDone, () -> produce(queued)));
+        }
+        for (int i = 0; i < consumers; i++) {
+            final int worker = producers + i;
+            pool.submit(() -> worker("consumer", worker, startBarrier, consumersDone, () -> consume(producersDone)));
+        }
+
+        boolean finished = false;
+        Thread sampler = null;
+        try {
+            // Release workers
+            try {
+                startBarrier.await();
+            } catch (BrokenBarrierException e) {
+                throw new RuntimeException("start barrier broken", e);
+            }
+            sampler = startDepthSampler();
+
+            long deadline = System.nanoTime() + spec.totalTimeout().toNanos();
+            finished = producersDone.await(remaining(deadline), TimeUnit.NANOSECONDS)
+                    && consumersDone.await(remaining(deadline), TimeUnit.NANOSECONDS)
+                    && (queued || awaitSettled(deadline));
+        } finally {
+            if (sampler != null) sampler.interrupt();
+            pool.shutdown();
+            if (spec.metrics() != null) spec.metrics().detach(live);
+            if (checkpoint != null) checkpoint.finish(!finished);
+            if (!finished) {
+                cancel.set(true);
+                pool.shutdownNow();
+            }
+        }
+
+        if (!finished) {
+            throw new ConcurRunner.TimeoutException("pipeline test timed out after " + spec.totalTimeout(), stats());
+        }
+        return stats();
+    }
+
+    private void worker(String role, int worker, CyclicBarrier startBarrier, CountDownLatch done, Runnable loop) {
+        WorkerThread self = (WorkerThread) Thread.currentThread();
+        try {
+            self.setName(spec.threadNamePrefix() + "-" + role + "-" + worker);
+            self.phases = phases.forThread();
+            self.fuzzer = fuzzing.forWorker(worker);
+            startBarrier.await(); // synchronize start
+            loop.run();
+        } catch (Exception e) {
+            spec.errors().add(e);
+        } finally {
+            self.phases = null;
+            self.fuzzer = null;
+            done.countDown();
+        }
+    }
+
+    private void produce(boolean queued) {
+        final long endAt = System.nanoTime() + spec.duration().toNanos();
+        try {
+            final Fuzzer fuzzer = currentFuzzer();
+            while (!cancel.get() && System.nanoTime() < endAt) {
+                final long injected = fuzzer == null ? 0 : fuzzer.injections;
+                final Object item;
+                try {
+                    item = pipeline.producer().get();
+                } catch (Throwable t) {
+                    if (fuzzer != null) fuzzer.failed(injected);
+                    if (fail(t)) return;
+                    continue;
+                }
+
+                final long enqueuedAt = System.nanoTime();
+                if (queued) {
+                    Envelope envelope = new Envelope(item, enqueuedAt);
+                    while (!pipeline.queue().offer(envelope, POLL_NANOS, TimeUnit.NANOSECONDS)) {
+                        if (cancel.get()) return;
+                    }
+                } else {
+                    try {
+                        pipeline.executor().execute(() -> handle(item, enqueuedAt));
+                    } catch (RejectedExecutionException e) {
+                        if (fail(e)) return;
+                        continue;
+                    }
+                }
+                produced.increment();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void consume(CountDownLatch producersDone) {
+        try {
+            while (!cancel.get()) {
+                // once producers are done, an empty poll means the queue is drained
+                boolean drained = producersDone.getCount() == 0;
+                Object next = pipeline.queue().poll(POLL_NANOS, TimeUnit.NANOSECONDS);
+                if (next == null) {
+                    if (drained) return;
+                    continue;
+                }
+                Envelope envelope = (Envelope) next;
+                handle(envelope.item(), envelope.enqueuedAt());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void handle(Object item, long enqueuedAt) {
+        final Fuzzer fuzzer = currentFuzzer();
+        final long injected = fuzzer == null ? 0 : fuzzer.injections;
+        final long start = System.nanoTime();
+        try {
+            pipeline.consumer().accept(item);
+            consumed.increment();
+        } catch (Throwable t) {
+            if (fuzzer != null) fuzzer.failed(injected);
+            fail(t);
+        } finally {
+            final long end = System.nanoTime();
+            queueWait.record(start - enqueuedAt);
+            service.record(end - start);
+            endToEnd.record(end - enqueuedAt);
+            settled.increment();
+        }
+    }
+
+    /**
+     * Records a failure; returns true when fail-fast has cancelled the run.
+     */
+    private boolean fail(Throwable t) {
+        failure.increment();
+        spec.errors().add(t);
+        if (spec.maxPendingFailures() > 0 && spec.errors().size() >= spec.maxPendingFailures()) {
+            cancel.set(true); // fail-fast
+        }
+        return cancel.get();
+    }
+
+    private static Fuzzer currentFuzzer() {
+        return Thread.currentThread() instanceof WorkerThread w ? w.fuzzer : null;
+    }
+
+    private boolean awaitSettled(long deadline) throws InterruptedException {
+        while (settled.sum() < produced.sum()) {
+            if (cancel.get()) return true;
+            if (remaining(deadline) <= 0) return false;
+            if (Thread.interrupted()) throw new InterruptedException();
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        return true;
+    }
+
+    private Thread startDepthSampler() {
+        long period = pipeline.depthSampleInterval().toNanos();
+        Thread t = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                int size = depth();
+                if (size >= 0) depth.add(new PipelineStats.DepthSample(System.nanoTime() - startedAt.get(), size));
+                LockSupport.parkNanos(period);
+            }
+        }, spec.threadNamePrefix() + "-depth-sampler");
+        t.setDaemon(true);
+        t.start();
+        return t;
+    }
+
+    private int depth() {
+        if (pipeline.queue() != null) return pipeline.queue().size();
+        if (pipeline.executor() instanceof ThreadPoolExecutor tpe) return tpe.getQueue().size();
+        return -1;
+    }
+
+    private RunStats stats() {
+        PipelineStats p = new PipelineStats(produced.sum(), consumed.sum(),
+                queueWait.snapshot(), service.snapshot(), endToEnd.snapshot(), List.copyOf(depth));
+        return new RunStats(consumed.sum(), failure.sum(), spec.errors(), p.endToEnd(), List.of(), List.of(),
+                phases.snapshot(), null, fuzzing.report(System.nanoTime() - startedAt.get()), p);
+    }
+
+    private static long remaining(long deadline) {
+        return Math.max(0, deadline - System.nanoTime());
+    }
+
+    private record Envelope(Object item, long enqueuedAt) {
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.concurspec;
+
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Producer/consumer topology for a {@link RunSpec}.
+ *
+ * <p>
+ * {@code producers} threads call {@link #producer()} and hand each item over a
+ * user-supplied {@link BlockingQueue} to {@code consumers} threads calling
+ * {@link #consumer()}, or submit it to a user-supplied {@link Executor}
+ * (then the executor's own threads consume and {@code consumers} is unused).
+ * Items are timestamped at enqueue so queue wait, service time and end-to-end
+ * latency can be measured separately.
+ * </p>
+ *
+ * <p>
+ * The queue is owned by the runner for the duration of the run; it carries the
+ * runner's own envelopes, not the produced items.
+ * </p>
+ *
+ * <p>
+ * {@link ConcurSpec#phase(String)} timers and {@link ConcurSpec#point(String)} only act on
+ * the runner's own threads. With an executor the consumer runs on the executor's threads,
+ * so phases and interleaving points inside {@link #consumer()} are ignored there; use a
+ * queue if the consumer needs them.
+ * </p>
+ */
+public record PipelineSpec<T>(
+        int producers,
+        int consumers,
+        Supplier<T> producer,
+        Consumer<T> consumer,
+        BlockingQueue<Object> queue,
+        Executor executor,
+        Duration depthSampleInterval
+) {
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    public static final class Builder<T> {
+        private int producers = 1;
+        private int consumers = 1;
+        private Supplier<T> producer;
+        private Consumer<T> consumer;
+        private BlockingQueue<Object> queue;
+        private Executor executor;
+        private Duration depthSampleInterval = Duration.ofMillis(100);
+
+        public Builder<T> producers(int v) {
+            this.producers = v;
+            return this;
+        }
+
+        public Builder<T> consumers(int v) {
+            this.consumers = v;
+            return this;
+        }
+
+        public Builder<T> producer(Supplier<T> v) {
+            this.producer = v;
+            return this;
+        }
+
+        public Builder<T> consumer(Consumer<T> v) {
+            this.consumer = v;
+            return this;
+        }
+
+        public Builder<T> queue(BlockingQueue<Object> v) {
+            this.queue = v;
+            return this;
+        }
+
+        /**
+         * Depth is sampled only for a {@link java.util.concurrent.ThreadPoolExecutor}.
+         * Phases and interleaving points are ignored inside the consumer in this mode.
+         */
+        public Builder<T> executor(Executor v) {
+            this.executor = v;
+            return this;
+        }
+
+        public Builder<T> depthSampleInterval(Duration v) {
+            this.depthSampleInterval = v;
+            return this;
+        }
+
+        public PipelineSpec<T> build() {
+            if (producers <= 0) {
+                throw new IllegalArgumentException("producers must be > 0");
+            }
+            if (producer == null) {
+                throw new IllegalArgumentException("producer must not be null");
+            }
+            if (consumer == null) {
+                throw new IllegalArgumentException("consumer must not be null");
+            }
+            if ((queue == null) == (executor == null)) {
+                throw new IllegalArgumentException("exactly one of queue or executor must be set");
+            }
+            if (queue != null && consumers <= 0) {
+                throw new IllegalArgumentException("consumers must be > 0");
+            }
+            if (depthSampleInterval == null || depthSampleInterval.isZero() || depthSampleInterval.isNegative()) {
+                throw new IllegalArgumentException("depthSampleInterval must be positive");
+            }
+            return new PipelineSpec<>(producers, consumers, producer, consumer, queue, executor, depthSampleInterval);
+        }
+    }
+}
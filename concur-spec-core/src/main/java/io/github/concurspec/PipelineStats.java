@@ -0,0 +1,35 @@
+package io.github.concurspec;
+
+import java.util.List;
+
+/**
+ * Statistics of a producer/consumer run ({@link RunSpec.Builder#pipeline(PipelineSpec)}).
+ *
+ * <ul>
+ *   <li>{@code queueWait}: enqueue to start of consumption</li>
+ *   <li>{@code service}: time inside the consumer</li>
+ *   <li>{@code endToEnd}: enqueue to end of consumption (also {@link RunStats#latency()})</li>
+ * </ul>
+ */
+public record PipelineStats(
+        long produced,
+        long consumed,
+        LatencySnapshot queueWait,
+        LatencySnapshot service,
+        LatencySnapshot endToEnd,
+        List<DepthSample> depth
+) {
+    public int maxDepth() {
+        return depth.stream().mapToInt(DepthSample::depth).max().orElse(0);
+    }
+
+    public double avgDepth() {
+        return depth.stream().mapToInt(DepthSample::depth).average().orElse(0);
+    }
+
+    /**
+     * Queue depth observed {@code offsetNanos} after the workers were released.
+     */
+    public record DepthSample(long offsetNanos, int depth) {
+    }
+}
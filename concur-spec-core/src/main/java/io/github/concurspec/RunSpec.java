@@ -1,6 +1,9 @@
 package io.github.concurspec;
 
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
@@ -29,12 +32,53 @@ public record RunSpec(
         String threadNamePrefix,
         int maxPendingFailures,
         Runnable task,
-        ConcurrentLinkedQueue<Throwable> errors
+        ConcurrentLinkedQueue<Throwable> errors,
+        Duration stuckThreshold,
+        int slowestK,
+        String operationName,
+        List<String> phases,
+        boolean cpuMetrics,
+        Long fuzzSeed,
+        PipelineSpec<?> pipeline,
+        MetricsEndpoint metrics,
+        Path checkpointFile,
+        Duration checkpointInterval
 ) {
+    /**
+     * The original 0.1.0 shape; every later option is off. Prefer {@link #builder()}, which validates.
+     */
+    public RunSpec(int threads, Duration duration, Duration totalTimeout, String threadNamePrefix,
+                   int maxPendingFailures, Runnable task, ConcurrentLinkedQueue<Throwable> errors) {
+        this(threads, duration, totalTimeout, threadNamePrefix, maxPendingFailures, task, errors,
+                null, 0, "task", List.of(), false, null, null, null, null, null);
+    }
+
     public static Builder builder() {
         return new Builder();
     }
 
+    /**
+     * Returns a builder pre-populated with this spec's settings and a fresh error queue.
+     */
+    public Builder toBuilder() {
+        return new Builder()
+                .threads(threads)
+                .duration(duration)
+                .totalTimeout(totalTimeout)
+                .threadNamePrefix(threadNamePrefix)
+                .maxPendingFailures(maxPendingFailures)
+                .task(task)
+                .stuckThreshold(stuckThreshold)
+                .slowestK(slowestK)
+                .operationName(operationName)
+                .phases(phases.toArray(new String[0]))
+                .cpuMetrics(cpuMetrics)
+                .fuzzSeed(fuzzSeed)
+                .pipeline(pipeline)
+                .metrics(metrics)
+                .checkpoint(checkpointFile, checkpointInterval);
+    }
+
     public static final class Builder {
         private int threads = 16;
         private Duration duration = Duration.ofSeconds(2);
@@ -42,7 +86,17 @@ public record RunSpec(
         private String threadNamePrefix = "concur";
         private int maxPendingFailures = 0;
         private Runnable task;
-        private final ConcurrentLinkedQueue<Throwable> errors = new ConcurrentLinkedQueue<>();
+        private ConcurrentLinkedQueue<Throwable> errors = new ConcurrentLinkedQueue<>();
+        private Duration stuckThreshold;
+        private int slowestK = 0;
+        private String operationName = "task";
+        private final List<String> phases = new ArrayList<>();
+        private boolean cpuMetrics = false;
+        private Long fuzzSeed;
+        private PipelineSpec<?> pipeline;
+        private MetricsEndpoint metrics;
+        private Path checkpointFile;
+        private Duration checkpointInterval;
 
         public Builder threads(int v) {
             this.threads = v;
@@ -74,6 +128,111 @@ public record RunSpec(
             return this;
         }
 
+        /**
+         * Collects errors into {@code v} instead of a fresh queue, e.g. to keep reporting into
+         * the original spec's {@link RunSpec#errors()} after {@link RunSpec#toBuilder()}.
+         */
+        public Builder errors(ConcurrentLinkedQueue<Throwable> v) {
+            this.errors = v;
+            return this;
+        }
+
+        /**
+         * Flags operations running longer than {@code v} and captures their stack traces.
+         * {@code null} (default) disables the monitor thread; in-flight operations are
+         * still reported when {@code totalTimeout} fires.
+         */
+        public Builder stuckThreshold(Duration v) {
+            this.stuckThreshold = v;
+            return this;
+        }
+
+        /**
+         * Keeps the {@code v} slowest operations (latency, start offset, worker, outcome) as exemplars.
+         * 0 (default) disables it.
+         */
+        public Builder slowestK(int v) {
+            this.slowestK = v;
+            return this;
+        }
+
+        /**
+         * Label attached to exemplars of this run's task.
+         */
+        public Builder operationName(String v) {
+            this.operationName = v;
+            return this;
+        }
+
+        /**
+         * Declares sub-phases recorded through {@link ConcurSpec#phase(String)} inside the task.
+         */
+        public Builder phases(String... names) {
+            for (String name : names) {
+                if (!phases.contains(name)) phases.add(name);
+            }
+            return this;
+        }
+
+        /**
+         * Samples CPU time, context switches and run-queue data over the measured window
+         * and reports them as {@link RunStats#cpu()}.
+         */
+        public Builder cpuMetrics(boolean v) {
+            this.cpuMetrics = v;
+            return this;
+        }
+
+        /**
+         * Enables interleaving fuzzing at {@link ConcurSpec#point(String)} with a random seed.
+         * The seed is reported in {@link RunStats#fuzz()} for replay.
+         */
+        public Builder fuzz() {
+            return fuzz(System.nanoTime());
+        }
+
+        /**
+         * Enables interleaving fuzzing with a fixed seed, e.g. to replay a failing run.
+         */
+        public Builder fuzz(long seed) {
+            this.fuzzSeed = seed;
+            return this;
+        }
+
+        private Builder fuzzSeed(Long v) {
+            this.fuzzSeed = v;
+            return this;
+        }
+
+        /**
+         * Runs a producer/consumer topology instead of {@code threads} copies of {@code task}.
+         * {@code threads} and {@code task} are then unused; {@code stuckThreshold},
+         * {@code slowestK} and {@code cpuMetrics} are not supported.
+         */
+        public Builder pipeline(PipelineSpec<?> v) {
+            this.pipeline = v;
+            return this;
+        }
+
+        /**
+         * Publishes live counters and latency of this run on {@code v} while it is in progress.
+         */
+        public Builder metrics(MetricsEndpoint v) {
+            this.metrics = v;
+            return this;
+        }
+
+        /**
+         * Flushes counters and latency buckets into the memory-mapped {@code file} every
+         * {@code interval} (off the worker threads). Read it back with {@link Checkpoint#read(Path)},
+         * including after the JVM has crashed. {@code null} file disables checkpointing.
+         */
+        public Builder checkpoint(Path file, Duration interval) {
+            this.checkpointFile = file;
+            this.checkpointInterval = interval;
+            return this;
+        }
+
         public RunSpec build() {
             if (threads <= 0) {
                 throw new IllegalArgumentException("threads must be > 0");
@@ -87,13 +246,40 @@ public record RunSpec(
             if (threadNamePrefix == null || threadNamePrefix.isBlank()) {
                 throw new IllegalArgumentException("threadNamePrefix must not be blank");
             }
+            if (errors == null) {
+                throw new IllegalArgumentException("errors must not be null");
+            }
             if (maxPendingFailures < 0) {
                 throw new IllegalArgumentException("maxPendingFailures must be >= 0");
             }
-            if (task == null) {
+            if (pipeline == null && task == null) {
                 throw new IllegalArgumentException("task must not be null");
             }
-            return new RunSpec(threads, duration, totalTimeout, threadNamePrefix, maxPendingFailures, task, errors);
+            if (pipeline != null && task != null) {
+                throw new IllegalArgumentException("task and pipeline are mutually exclusive");
+            }
+            if (pipeline != null && (stuckThreshold != null || slowestK > 0 || cpuMetrics)) {
+                throw new IllegalArgumentException("pipeline does not support stuckThreshold, slowestK or cpuMetrics");
+            }
+            if (stuckThreshold != null && (stuckThreshold.isZero() || stuckThreshold.isNegative())) {
+                throw new IllegalArgumentException("stuckThreshold must be positive");
+            }
+            if (slowestK < 0) {
+                throw new IllegalArgumentException("slowestK must be >= 0");
+            }
+            if (phases.stream().anyMatch(p -> p == null || p.isBlank())) {
+                throw new IllegalArgumentException("phases must not be blank");
+            }
+            if (operationName == null || operationName.isBlank()) {
+                throw new IllegalArgumentException("operationName must not be blank");
+            }
+            if (checkpointFile != null
+                    && (checkpointInterval == null || checkpointInterval.isZero() || checkpointInterval.isNegative())) {
+                throw new IllegalArgumentException("checkpointInterval must be positive");
+            }
+            return new RunSpec(threads, duration, totalTimeout, threadNamePrefix, maxPendingFailures, task, errors,
+                    stuckThreshold, slowestK, operationName, List.copyOf(phases),
+                    cpuMetrics, fuzzSeed, pipeline, metrics, checkpointFile, checkpointInterval);
         }
     }
 }
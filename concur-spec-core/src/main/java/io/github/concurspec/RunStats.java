@@ -1,6 +1,8 @@
 package io.github.concurspec;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Aggregated statistics (run statistics) for a single ConcurRunner execution.
@@ -9,12 +11,41 @@ public record RunStats(
         long successCount,
         long failureCount,
         Collection<Throwable> errors,
-        LatencySnapshot latency
+        LatencySnapshot latency,
+        List<StuckOperation> stuckOperations,
+        List<SlowOperation> slowestOperations,
+        Map<String, LatencySnapshot> phases,
+        CpuStats cpu,
+        FuzzReport fuzz,
+        PipelineStats pipeline
 ) {
+    public RunStats(long successCount, long failureCount, Collection<Throwable> errors, LatencySnapshot latency) {
+        this(successCount, failureCount, errors, latency, List.of(), List.of(), Map.of(), null, null, null);
+    }
+
+    /**
+     * Latency distribution of a sub-phase declared in {@link RunSpec.Builder#phases(String...)}.
+     */
+    public LatencySnapshot phase(String name) {
+        LatencySnapshot s = phases.get(name);
+        if (s == null) throw new IllegalArgumentException("unknown phase: " + name);
+        return s;
+    }
+
+    /**
+     * Human-readable dump of every stuck operation, or an empty string if none were flagged.
+     */
+    public String stuckThreadReport() {
+        StringBuilder sb = new StringBuilder();
+        for (StuckOperation op : stuckOperations) sb.append(op).append('\n');
+        return sb.toString();
+    }
+
     public void assertNoUncaughtErrors() {
         if (!errors.isEmpty()) {
             Throwable first = errors.iterator().next();
-            throw new AssertionError("Uncaught errors: " + errors.size(), first);
+            String seed = fuzz == null ? "" : " (fuzz seed=" + fuzz.seed() + ")";
+            throw new AssertionError("Uncaught errors: " + errors.size() + seed, first);
         }
     }
 
@@ -23,4 +54,10 @@ public record RunStats(
         double r = total == 0 ? 1.0 : (successCount / (double) total);
         if (r < rate) throw new AssertionError("successRate=" + r + " < " + rate);
     }
+
+    public void assertNoStuckOperations() {
+        if (!stuckOperations.isEmpty()) {
+            throw new AssertionError("Stuck operations: " + stuckOperations.size() + "\n" + stuckThreadReport());
+        }
+    }
 }
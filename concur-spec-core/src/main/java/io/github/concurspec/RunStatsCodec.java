@@ -0,0 +1,208 @@
+package io.github.concurspec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Binary wire format for shipping {@link RunStats} between processes.
+ * Errors cannot be serialized reliably, so only type, message and a few frames travel.
+ */
+final class RunStatsCodec {
+    static final int MAX_ERRORS = 64;
+    private static final int MAX_FRAMES = 32;
+    private static final int MAX_MESSAGE = 1024;
+
+    private RunStatsCodec() {
+    }
+
+    static void write(DataOutput out, RunStats stats) throws IOException {
+        out.writeLong(stats.successCount());
+        out.writeLong(stats.failureCount());
+
+        int errors = Math.min(stats.errors().size(), MAX_ERRORS);
+        out.writeInt(errors);
+        int written = 0;
+        for (Throwable t : stats.errors()) {
+            if (written++ == errors) break;
+            writeError(out, t);
+        }
+
+        writeLatency(out, stats.latency());
+
+        out.writeInt(stats.stuckOperations().size());
+        for (StuckOperation op : stats.stuckOperations()) {
+            out.writeUTF(op.thread());
+            out.writeLong(op.elapsedNanos());
+            writeFrames(out, op.stackTrace().toArray(new StackTraceElement[0]));
+        }
+
+        out.writeInt(stats.slowestOperations().size());
+        for (SlowOperation op : stats.slowestOperations()) {
+            out.writeLong(op.latencyNanos());
+            out.writeLong(op.startOffsetNanos());
+            out.writeUTF(op.worker());
+            out.writeUTF(op.operation());
+            out.writeBoolean(op.failed());
+        }
+
+        out.writeInt(stats.phases().size());
+        for (Map.Entry<String, LatencySnapshot> e : stats.phases().entrySet()) {
+            out.writeUTF(e.getKey());
+            writeLatency(out, e.getValue());
+        }
+
+        CpuStats cpu = stats.cpu();
+        out.writeBoolean(cpu != null);
+        if (cpu != null) {
+            out.writeLong(cpu.wallNanos());
+            out.writeLong(cpu.processCpuNanos());
+            out.writeLong(cpu.workerCpuNanos());
+            out.writeLong(cpu.operationNanos());
+            out.writeLong(cpu.operations());
+            out.writeLong(cpu.voluntaryContextSwitches());
+            out.writeLong(cpu.involuntaryContextSwitches());
+            out.writeLong(cpu.runQueueWaitNanos());
+            out.writeDouble(cpu.avgRunnable());
+            out.writeInt(cpu.maxRunnable());
+        }
+
+        FuzzReport fuzz = stats.fuzz();
+        out.writeBoolean(fuzz != null);
+        if (fuzz != null) {
+            out.writeLong(fuzz.seed());
+            out.writeLong(fuzz.pointHits());
+            out.writeLong(fuzz.injections());
+            out.writeLong(fuzz.racesFound());
+            out.writeLong(fuzz.elapsedNanos());
+        }
+    }
+
+    static RunStats read(DataInput in) throws IOException {
+        long success = in.readLong();
+        long failure = in.readLong();
+
+        ConcurrentLinkedQueue<Throwable> errors = new ConcurrentLinkedQueue<>();
+        int n = in.readInt();
+        for (int i = 0; i < n; i++) errors.add(readError(in));
+
+        LatencySnapshot latency = readLatency(in);
+
+        List<StuckOperation> stuck = new ArrayList<>();
+        int m = in.readInt();
+        for (int i = 0; i < m; i++) {
+            stuck.add(new StuckOperation(in.readUTF(), in.readLong(), List.of(readFrames(in))));
+        }
+
+        List<SlowOperation> slowest = new ArrayList<>();
+        int k = in.readInt();
+        for (int i = 0; i < k; i++) {
+            slowest.add(new SlowOperation(in.readLong(), in.readLong(), in.readUTF(), in.readUTF(), in.readBoolean()));
+        }
+
+        Map<String, LatencySnapshot> phases = new LinkedHashMap<>();
+        int p = in.readInt();
+        for (int i = 0; i < p; i++) phases.put(in.readUTF(), readLatency(in));
+
+        CpuStats cpu = null;
+        if (in.readBoolean()) {
+            cpu = new CpuStats(in.readLong(), in.readLong(), in.readLong(), in.readLong(), in.readLong(),
+                    in.readLong(), in.readLong(), in.readLong(), in.readDouble(), in.readInt());
+        }
+
+        FuzzReport fuzz = null;
+        if (in.readBoolean()) {
+            fuzz = new FuzzReport(in.readLong(), in.readLong(), in.readLong(), in.readLong(), in.readLong());
+        }
+
+        return new RunStats(success, failure, errors, latency, stuck, slowest, phases, cpu, fuzz, null);
+    }
+
+    static void writeLatency(DataOutput out, LatencySnapshot s) throws IOException {
+        for (long b : s.buckets()) out.writeLong(b);
+        out.writeLong(s.count());
+        out.writeLong(s.minNanos());
+        out.writeLong(s.maxNanos());
+        out.writeLong(s.sumNanos());
+    }
+
+    static LatencySnapshot readLatency(DataInput in) throws IOException {
+        long[] buckets = new long[64];
+        for (int i = 0; i < buckets.length; i++) buckets[i] = in.readLong();
+        return new LatencySnapshot(buckets, in.readLong(), in.readLong(), in.readLong(), in.readLong());
+    }
+
+    private static void writeError(DataOutput out, Throwable t) throws IOException {
+        String message = t.getMessage();
+        out.writeUTF(t.getClass().getName());
+        writeNullable(out, message != null && message.length() > MAX_MESSAGE ? message.substring(0, MAX_MESSAGE) : message);
+        writeFrames(out, t.getStackTrace());
+    }
+
+    private static void writeFrames(DataOutput out, StackTraceElement[] frames) throws IOException {
+        int n = Math.min(frames.length, MAX_FRAMES);
+        out.writeInt(n);
+        for (int i = 0; i < n; i++) {
+            out.writeUTF(frames[i].getClassName());
+            out.writeUTF(frames[i].getMethodName());
+            writeNullable(out, frames[i].getFileName());
+            out.writeInt(frames[i].getLineNumber());
+        }
+    }
+
+    private static Throwable readError(DataInput in) throws IOException {
+        RemoteError error = new RemoteError(in.readUTF(), readNullable(in));
+        error.setStackTrace(readFrames(in));
+        return error;
+    }
+
+    private static StackTraceElement[] readFrames(DataInput in) throws IOException {
+        StackTraceElement[] frames = new StackTraceElement[in.readInt()];
+        for (int i = 0; i < frames.length; i++) {
+            frames[i] = new StackTraceElement(in.readUTF(), in.readUTF(), readNullable(in), in.readInt());
+        }
+        return frames;
+    }
+
+    private static void writeNullable(DataOutput out, String v) throws IOException {
+        out.writeBoolean(v != null);
+        if (v != null) out.writeUTF(v);
+    }
+
+    private static String readNullable(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    /**
+     * Stand-in for an error thrown inside a worker process.
+     * Its message reads like the remote {@code Throwable.toString()}.
+     */
+    static final class RemoteError extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private final String remoteType;
+        private final String remoteMessage;
+
+        RemoteError(String remoteType, String message) {
+            super(message == null ? remoteType : remoteType + ": " + message);
+            this.remoteType = remoteType;
+            this.remoteMessage = message;
+        }
+
+        String remoteType() {
+            return remoteType;
+        }
+
+        /**
+         * The remote exception's own message, {@code null} if it had none.
+         */
+        String remoteMessage() {
+            return remoteMessage;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package io.github.concurspec;
+
+import java.time.Duration;
+
+/**
+ * One of the slowest operations of a run (exemplar).
+ * {@code startOffsetNanos} is measured from the moment workers were released,
+ * so outliers can be lined up with GC logs and other time series.
+ */
+public record SlowOperation(
+        long latencyNanos,
+        long startOffsetNanos,
+        String worker,
+        String operation,
+        boolean failed
+) {
+    public Duration latency() {
+        return Duration.ofNanos(latencyNanos);
+    }
+
+    public Duration startOffset() {
+        return Duration.ofNanos(startOffsetNanos);
+    }
+}
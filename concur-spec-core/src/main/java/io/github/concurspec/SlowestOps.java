@@ -0,0 +1,83 @@
+package io.github.concurspec;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Bounded top-K of the slowest operations seen by one worker.
+ * Single-writer (the owning worker), so it needs no locks; storage is a
+ * preallocated min-heap over primitive arrays, so recording never allocates.
+ * Read once the worker has finished, or best-effort on timeout while it is still running.
+ */
+final class SlowestOps {
+    private final long[] latency;
+    private final long[] start;
+    private final boolean[] failed;
+    private int size;
+
+    SlowestOps(int k) {
+        this.latency = new long[k];
+        this.start = new long[k];
+        this.failed = new boolean[k];
+    }
+
+    void offer(long latencyNanos, long startNanos, boolean fail) {
+        int k = latency.length;
+        if (size < k) {
+            set(size, latencyNanos, startNanos, fail);
+            siftUp(size++);
+        } else if (k > 0 && latencyNanos > latency[0]) {
+            set(0, latencyNanos, startNanos, fail);
+            siftDown(0);
+        }
+    }
+
+    void drainTo(List<SlowOperation> out, long runStartNanos, String worker, String operation) {
+        for (int i = 0; i < size; i++) {
+            out.add(new SlowOperation(latency[i], start[i] - runStartNanos, worker, operation, failed[i]));
+        }
+    }
+
+    /**
+     * Keeps only the {@code k} slowest entries, slowest first.
+     */
+    static List<SlowOperation> top(List<SlowOperation> all, int k) {
+        List<SlowOperation> sorted = new ArrayList<>(all);
+        sorted.sort(Comparator.comparingLong(SlowOperation::latencyNanos).reversed());
+        return List.copyOf(sorted.subList(0, Math.min(k, sorted.size())));
+    }
+
+    private void set(int i, long l, long s, boolean f) {
+        latency[i] = l;
+        start[i] = s;
+        failed[i] = f;
+    }
+
+    private void swap(int i, int j) {
+        long l = latency[i], s = start[i];
+        boolean f = failed[i];
+        set(i, latency[j], start[j], failed[j]);
+        set(j, l, s, f);
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (latency[parent] <= latency[i]) return;
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1, right = left + 1, min = i;
+            if (left < size && latency[left] < latency[min]) min = left;
+            if (right < size && latency[right] < latency[min]) min = right;
+            if (min == i) return;
+            swap(i, min);
+            i = min;
+        }
+    }
+}
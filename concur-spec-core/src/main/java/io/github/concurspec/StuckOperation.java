@@ -0,0 +1,26 @@
+package io.github.concurspec;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * An operation that was still running past the watchdog threshold (or at timeout),
+ * together with the stack of the worker thread when it was flagged.
+ */
+public record StuckOperation(
+        String thread,
+        long elapsedNanos,
+        List<StackTraceElement> stackTrace
+) {
+    public Duration elapsed() {
+        return Duration.ofNanos(elapsedNanos);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append('"').append(thread).append("\" stuck for ").append(elapsed());
+        for (StackTraceElement e : stackTrace) sb.append("\n\tat ").append(e);
+        return sb.toString();
+    }
+}
@@ -0,0 +1,114 @@
+package io.github.concurspec;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hung-operation detector.
+ * Each worker publishes the start time of its current operation into its own
+ * padded slot (one ordered store per operation, no sharing between workers).
+ * A monitor thread scans the slots and captures the stack of any worker whose
+ * operation is older than the threshold.
+ */
+final class Watchdog {
+    static final long IDLE = Long.MIN_VALUE;
+    // 16 longs = 128 bytes between slots, so workers never share a cache line (incl. adjacent-line prefetch)
+    private static final int PAD = 16;
+
+    private final AtomicLongArray slots;
+    private final AtomicReferenceArray<Thread> threads;
+    private final long thresholdNanos;
+    private final long[] reported; // monitor-thread only
+    private final ConcurrentLinkedQueue<StuckOperation> stuck = new ConcurrentLinkedQueue<>();
+    private volatile Thread monitor;
+
+    Watchdog(int workers, long thresholdNanos) {
+        this.slots = new AtomicLongArray((workers + 1) * PAD);
+        this.threads = new AtomicReferenceArray<>(workers);
+        this.thresholdNanos = thresholdNanos;
+        this.reported = new long[workers];
+        for (int i = 0; i < workers; i++) slots.set(slot(i), IDLE);
+        Arrays.fill(reported, IDLE);
+    }
+
+    void register(int worker, Thread thread) {
+        threads.set(worker, thread);
+    }
+
+    void begin(int worker, long startNanos) {
+        slots.lazySet(slot(worker), startNanos);
+    }
+
+    void end(int worker) {
+        slots.lazySet(slot(worker), IDLE);
+    }
+
+    /**
+     * Starts the monitor thread; no-op when no threshold was configured.
+     */
+    void start(String name) {
+        if (thresholdNanos <= 0) return;
+        long period = Math.max(thresholdNanos / 4, TimeUnit.MILLISECONDS.toNanos(1));
+        Thread t = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                LockSupport.parkNanos(period);
+                scan(thresholdNanos);
+            }
+        }, name);
+        t.setDaemon(true);
+        monitor = t;
+        t.start();
+    }
+
+    void stop() {
+        Thread t = monitor;
+        if (t != null) {
+            t.interrupt();
+            try {
+                t.join(TimeUnit.NANOSECONDS.toMillis(thresholdNanos) + 100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Flags every operation still in flight, regardless of threshold (used on timeout).
+     * Must be called after {@link #stop()}.
+     */
+    void sweep() {
+        scan(0);
+    }
+
+    List<StuckOperation> stuckOperations() {
+        return new ArrayList<>(stuck);
+    }
+
+    // slot 0 is left empty so the first worker does not share a line with the array header
+    private static int slot(int worker) {
+        return (worker + 1) * PAD;
+    }
+
+    private void scan(long minAgeNanos) {
+        long now = System.nanoTime();
+        for (int i = 0; i < reported.length; i++) {
+            long start = slots.get(slot(i));
+            if (start == IDLE || start == reported[i] || now - start < minAgeNanos) continue;
+
+            Thread t = threads.get(i);
+            if (t == null) continue;
+            StackTraceElement[] stack = t.getStackTrace();
+            // operation may have completed while the stack was being captured
+            if (slots.get(slot(i)) != start) continue;
+
+            reported[i] = start;
+            stuck.add(new StuckOperation(t.getName(), now - start, List.of(stack)));
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package io.github.concurspec;
+
+/**
+ * Worker thread created by {@link ConcurRunner}.
+ * Carries per-thread run state so {@link ConcurSpec} hooks reach it with a
+ * type check instead of a {@link ThreadLocal} lookup.
+ */
+final class WorkerThread extends Thread {
+    // indexed by ConcurSpec.Phase id; written by the owning thread only
+    LatencyRecorder[] phases;
+    // non-null only while fuzzing; written by the owning thread only
+    Fuzzer fuzzer;
+
+    WorkerThread(Runnable r) {
+        super(r);
+    }
+}
@@ -0,0 +1,206 @@
+package io.github.concurspec;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class CheckpointTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("run이 끝나면 checkpoint 파일에서 최종 RunStats를 복원할 수 있다")
+    void shouldRestoreFinalStatsFromCheckpoint() throws Exception {
+        // given
+        Path file = dir.resolve("run.ckpt");
+        RunSpec spec = RunSpec.builder()
+                .threads(2)
+                .duration(Duration.ofMillis(300))
+                .totalTimeout(Duration.ofSeconds(5))
+                .checkpoint(file, Duration.ofMillis(50))
+                .task(() -> {
+                    if (System.nanoTime() % 10 == 0) throw new IllegalStateException("boom");
+                })
+                .build();
+
+        // when
+        RunStats stats = ConcurRunner.run(spec);
+        Checkpoint.Snapshot snapshot = Checkpoint.read(file);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(snapshot.state()).isEqualTo(Checkpoint.State.FINISHED);
+            softly.assertThat(snapshot.stats().successCount()).isEqualTo(stats.successCount());
+            softly.assertThat(snapshot.stats().failureCount()).isEqualTo(stats.failureCount());
+            softly.assertThat(snapshot.errorCount()).isEqualTo(stats.errors().size());
+            softly.assertThat(snapshot.stats().latency().count()).isEqualTo(stats.latency().count());
+            softly.assertThat(snapshot.stats().latency().p99Nanos()).isEqualTo(stats.latency().p99Nanos());
+            softly.assertThat(snapshot.stats().latency().maxNanos()).isEqualTo(stats.latency().maxNanos());
+        });
+    }
+
+    @Test
+    @DisplayName("실행 중에도 다른 reader가 checkpoint를 읽을 수 있다")
+    void shouldReadCheckpointWhileRunning() throws Exception {
+        // given
+        Path file = dir.resolve("live.ckpt");
+        RunSpec spec = RunSpec.builder()
+                .threads(2)
+                .duration(Duration.ofMillis(600))
+                .totalTimeout(Duration.ofSeconds(5))
+                .checkpoint(file, Duration.ofMillis(20))
+                .task(() -> Math.sqrt(System.nanoTime()))
+                .build();
+        CompletableFuture<RunStats> run = CompletableFuture.supplyAsync(() -> {
+            try {
+                return ConcurRunner.run(spec);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // when
+        Thread.sleep(300);
+        Checkpoint.Snapshot during = Checkpoint.read(file);
+        RunStats stats = run.get();
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(during.state()).isEqualTo(Checkpoint.State.RUNNING);
+            softly.assertThat(during.stats().successCount()).isPositive();
+            softly.assertThat(during.stats().successCount()).isLessThanOrEqualTo(stats.successCount());
+            softly.assertThat(during.elapsed()).isPositive();
+        });
+    }
+
+    @Test
+    @DisplayName("flush 도중 중단된 slot은 무시하고 직전 checkpoint를 읽는다")
+    void shouldFallBackToPreviousSlotWhenFlushWasInterrupted() throws Exception {
+        // given
+        Path file = dir.resolve("torn.ckpt");
+        ConcurRunner.run(RunSpec.builder()
+                .threads(1)
+                .duration(Duration.ofMillis(100))
+                .checkpoint(file, Duration.ofMillis(10))
+                .task(() -> {
+                })
+                .build());
+        Checkpoint.Snapshot last = Checkpoint.read(file);
+
+        // when: invalidate the newest slot, as a crash in the middle of a flush would
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_WRITE, 0, Checkpoint.FILE_BYTES);
+            int newest = buf.getLong(Checkpoint.slotOffset(0)) > buf.getLong(Checkpoint.slotOffset(1)) ? 0 : 1;
+            buf.putLong(Checkpoint.slotOffset(newest), 0L);
+            buf.force();
+        }
+        Checkpoint.Snapshot recovered = Checkpoint.read(file);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(recovered.state()).isEqualTo(Checkpoint.State.RUNNING);
+            softly.assertThat(recovered.flushedAt()).isBeforeOrEqualTo(last.flushedAt());
+            softly.assertThat(recovered.stats().successCount()).isLessThanOrEqualTo(last.stats().successCount());
+        });
+    }
+
+    @Test
+    @DisplayName("checkpoint 파일을 만들 수 없으면 worker를 띄우기 전에 실패하고 아무것도 남기지 않는다")
+    void shouldFailBeforeStartingWorkersWhenCheckpointCannotBeCreated() {
+        // given
+        Path file = dir.resolve("missing").resolve("run.ckpt");
+        boolean cpuTimeEnabled = ManagementFactory.getThreadMXBean().isThreadCpuTimeEnabled();
+        try (MetricsEndpoint metrics = MetricsEndpoint.start(0)) {
+            RunSpec spec = RunSpec.builder()
+                    .threads(4)
+                    .duration(Duration.ofMillis(100))
+                    .threadNamePrefix("bad-ckpt")
+                    .stuckThreshold(Duration.ofSeconds(1))
+                    .cpuMetrics(true)
+                    .metrics(metrics)
+                    .checkpoint(file, Duration.ofMillis(10))
+                    .task(() -> {
+                    })
+                    .build();
+
+            // when & then
+            assertThatThrownBy(() -> ConcurRunner.run(spec))
+                    .isInstanceOf(UncheckedIOException.class)
+                    .hasMessageContaining("cannot create checkpoint");
+            assertSoftly(softly -> {
+                softly.assertThat(Thread.getAllStackTraces().keySet())
+                        .noneMatch(t -> t.getName().startsWith("bad-ckpt"));
+                softly.assertThat(metrics.render()).contains("concurspec_running 0");
+                softly.assertThat(ManagementFactory.getThreadMXBean().isThreadCpuTimeEnabled())
+                        .isEqualTo(cpuTimeEnabled);
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("run을 기다리던 thread가 interrupt되면 checkpoint는 RUNNING으로 남지 않는다")
+    void shouldFinishCheckpointWhenCallerIsInterrupted() throws Exception {
+        // given
+        Path file = dir.resolve("interrupted.ckpt");
+        RunSpec spec = RunSpec.builder()
+                .threads(2)
+                .duration(Duration.ofSeconds(30))
+                .totalTimeout(Duration.ofSeconds(60))
+                .checkpoint(file, Duration.ofMillis(10))
+                .task(() -> Math.sqrt(System.nanoTime()))
+                .build();
+        CompletableFuture<Throwable> outcome = new CompletableFuture<>();
+        Thread caller = new Thread(() -> {
+            try {
+                ConcurRunner.run(spec);
+                outcome.complete(null);
+            } catch (Throwable t) {
+                outcome.complete(t);
+            }
+        });
+        caller.start();
+
+        // when
+        Thread.sleep(200);
+        caller.interrupt();
+        Throwable thrown = outcome.get(5, TimeUnit.SECONDS);
+        Checkpoint.Snapshot first = Checkpoint.read(file);
+        Thread.sleep(50);
+        Checkpoint.Snapshot later = Checkpoint.read(file);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(thrown).isInstanceOf(InterruptedException.class);
+            softly.assertThat(first.state()).isEqualTo(Checkpoint.State.TIMED_OUT);
+            softly.assertThat(later.flushedAt()).isEqualTo(first.flushedAt());
+        });
+    }
+
+    @Test
+    @DisplayName("checkpoint 파일이 아니면 예외가 발생한다")
+    void shouldRejectForeignFile() throws Exception {
+        // given
+        Path file = dir.resolve("foreign.bin");
+        Files.write(file, new byte[Checkpoint.FILE_BYTES]);
+
+        // when & then
+        assertThatThrownBy(() -> Checkpoint.read(file))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("not a checkpoint file");
+    }
+}
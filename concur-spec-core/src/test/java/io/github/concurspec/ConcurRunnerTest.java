@@ -3,13 +3,22 @@ package io.github.concurspec;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.assertj.core.api.Assertions.within;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 class ConcurRunnerTest {
 
@@ -154,6 +163,433 @@ class ConcurRunnerTest {
                 .isInstanceOf(ConcurRunner.TimeoutException.class);
     }
 
+    @Test
+    @DisplayName("timeout 시 TimeoutException에 부분 통계와 멈춘 스레드 스택이 담긴다")
+    void shouldCarryPartialStatsAndStuckThreadsOnTimeout() {
+        // given
+        RunSpec spec = RunSpec.builder()
+                .threads(2)
+                .duration(Duration.ofSeconds(100))
+                .totalTimeout(Duration.ofMillis(200))
+                .threadNamePrefix("hung")
+                .task(() -> {
+                    try {
+                        Thread.sleep(5000);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                })
+                .build();
+
+        // when
+        ConcurRunner.TimeoutException timeout = catchThrowableOfType(() -> ConcurRunner.run(spec),
+                ConcurRunner.TimeoutException.class);
+
+        // then
+        RunStats partial = timeout.partialStats();
+        assertSoftly(softly -> {
+            softly.assertThat(partial).isNotNull();
+            softly.assertThat(partial.stuckOperations()).hasSize(2);
+            softly.assertThat(partial.stuckOperations()).allMatch(op -> op.thread().startsWith("hung-"));
+            softly.assertThat(partial.stuckThreadReport()).contains("Thread.sleep");
+        });
+    }
+
+    @Test
+    @DisplayName("fuzz run이 timeout되어도 부분 통계에 seed와 fuzz 카운터가 담긴다")
+    void shouldCarryFuzzReportOnTimeout() {
+        // given
+        RunSpec spec = RunSpec.builder()
+                .threads(2)
+                .duration(Duration.ofSeconds(100))
+                .totalTimeout(Duration.ofMillis(200))
+                .threadNamePrefix("hung")
+                .fuzz(7)
+                .task(() -> {
+                    ConcurSpec.point("before-hang");
+                    try {
+                        Thread.sleep(5000);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                })
+                .build();
+
+        // when
+        ConcurRunner.TimeoutException timeout = catchThrowableOfType(() -> ConcurRunner.run(spec),
+                ConcurRunner.TimeoutException.class);
+
+        // then
+        FuzzReport fuzz = timeout.partialStats().fuzz();
+        assertSoftly(softly -> {
+            softly.assertThat(fuzz).isNotNull();
+            softly.assertThat(fuzz.seed()).isEqualTo(7);
+            softly.assertThat(fuzz.pointHits()).isGreaterThanOrEqualTo(2);
+            softly.assertThat(fuzz.elapsedNanos()).isPositive();
+        });
+    }
+
+    @Test
+    @DisplayName("timeout 시에도 그때까지 모인 가장 느린 작업 K개가 부분 통계에 담긴다")
+    void shouldKeepSlowestOperationsOnTimeout() {
+        // given
+        AtomicInteger calls = new AtomicInteger(0);
+        RunSpec spec = RunSpec.builder()
+                .threads(2)
+                .duration(Duration.ofSeconds(100))
+                .totalTimeout(Duration.ofMillis(500))
+                .threadNamePrefix("hung")
+                .slowestK(3)
+                .task(() -> {
+                    try {
+                        Thread.sleep(calls.incrementAndGet() <= 6 ? 20 : 5000);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                })
+                .build();
+
+        // when
+        ConcurRunner.TimeoutException timeout = catchThrowableOfType(() -> ConcurRunner.run(spec),
+                ConcurRunner.TimeoutException.class);
+
+        // then
+        RunStats partial = timeout.partialStats();
+        assertSoftly(softly -> {
+            softly.assertThat(partial.slowestOperations()).hasSize(3);
+            softly.assertThat(partial.slowestOperations())
+                    .allMatch(op -> op.latencyNanos() >= Duration.ofMillis(20).toNanos())
+                    .allMatch(op -> op.worker().startsWith("hung-"));
+        });
+    }
+
+    @Test
+    @DisplayName("stuckThreshold를 넘긴 작업은 스택과 함께 보고된다")
+    void shouldReportOperationsSlowerThanStuckThreshold() throws InterruptedException {
+        // given
+        AtomicInteger calls = new AtomicInteger(0);
+        RunSpec spec = RunSpec.builder()
+                .threads(2)
+                .duration(Duration.ofMillis(300))
+                .totalTimeout(Duration.ofSeconds(5))
+                .stuckThreshold(Duration.ofMillis(50))
+                .task(() -> {
+                    if (calls.incrementAndGet() == 1) {
+                        try {
+                            Thread.sleep(200);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                })
+                .build();
+
+        // when
+        RunStats result = ConcurRunner.run(spec);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(result.stuckOperations()).hasSize(1);
+            softly.assertThat(result.stuckOperations().get(0).elapsed()).isGreaterThanOrEqualTo(Duration.ofMillis(50));
+            softly.assertThat(result.stuckThreadReport()).contains("Thread.sleep");
+        });
+        assertThatThrownBy(result::assertNoStuckOperations).isInstanceOf(AssertionError.class);
+    }
+
+    @Test
+    @DisplayName("slowestK만큼 가장 느린 작업이 시작 시점과 함께 기록된다")
+    void shouldKeepSlowestOperationsWithTimestamps() throws InterruptedException {
+        // given
+        AtomicInteger calls = new AtomicInteger(0);
+        RunSpec spec = RunSpec.builder()
+                .threads(4)
+                .duration(Duration.ofMillis(200))
+                .totalTimeout(Duration.ofSeconds(5))
+                .threadNamePrefix("slow")
+                .slowestK(3)
+                .operationName("checkout")
+                .task(() -> {
+                    int call = calls.incrementAndGet();
+                    if (call <= 2) {
+                        try {
+                            Thread.sleep(30);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        throw new IllegalStateException("slow failure");
+                    }
+                })
+                .build();
+
+        // when
+        RunStats result = ConcurRunner.run(spec);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(result.slowestOperations()).hasSize(3);
+            softly.assertThat(result.slowestOperations())
+                    .isSortedAccordingTo((a, b) -> Long.compare(b.latencyNanos(), a.latencyNanos()));
+            softly.assertThat(result.slowestOperations())
+                    .filteredOn(SlowOperation::failed)
+                    .hasSize(2)
+                    .allMatch(op -> op.latency().compareTo(Duration.ofMillis(30)) >= 0);
+            softly.assertThat(result.slowestOperations())
+                    .allMatch(op -> op.worker().startsWith("slow-") && op.operation().equals("checkout"));
+            softly.assertThat(result.slowestOperations())
+                    .allMatch(op -> op.startOffsetNanos() >= 0 && op.startOffset().compareTo(Duration.ofMillis(300)) < 0);
+        });
+    }
+
+    @Test
+    @DisplayName("task 안의 phase 구간이 별도 분포로 기록된다")
+    void shouldRecordSubPhaseLatencies() throws InterruptedException {
+        // given
+        ConcurSpec.Phase read = ConcurSpec.phase("read");
+        ConcurSpec.Phase write = ConcurSpec.phase("write");
+        ConcurSpec.Phase undeclared = ConcurSpec.phase("undeclared");
+
+        RunSpec spec = RunSpec.builder()
+                .threads(4)
+                .duration(Duration.ofMillis(100))
+                .totalTimeout(Duration.ofSeconds(5))
+                .phases("read", "write")
+                .task(() -> {
+                    long t = read.start();
+                    for (int i = 0; i < 100; i++) {
+                        Math.sqrt(i);
+                    }
+                    read.end(t);
+                    write.record(1_000_000);
+                    undeclared.record(1);
+                })
+                .build();
+
+        // when
+        RunStats result = ConcurRunner.run(spec);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(result.phases()).containsOnlyKeys("read", "write");
+            softly.assertThat(result.phase("read").count()).isEqualTo(result.successCount());
+            softly.assertThat(result.phase("write").count()).isEqualTo(result.successCount());
+            softly.assertThat(result.phase("write").p99Nanos()).isEqualTo(1L << 20);
+        });
+    }
+
+    @Test
+    @DisplayName("cpuMetrics를 켜면 CPU 사용량과 on/off-CPU 비율이 보고된다")
+    void shouldReportCpuMetricsWhenEnabled() throws InterruptedException {
+        // given
+        RunSpec spec = RunSpec.builder()
+                .threads(2)
+                .duration(Duration.ofMillis(200))
+                .totalTimeout(Duration.ofSeconds(5))
+                .cpuMetrics(true)
+                .task(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        Math.sqrt(i);
+                    }
+                })
+                .build();
+
+        // when
+        RunStats result = ConcurRunner.run(spec);
+
+        // then
+        CpuStats cpu = result.cpu();
+        assertSoftly(softly -> {
+            softly.assertThat(cpu).isNotNull();
+            softly.assertThat(cpu.operations()).isEqualTo(result.successCount());
+            softly.assertThat(cpu.wallNanos()).isGreaterThan(0);
+            softly.assertThat(cpu.workerCpuNanos()).isGreaterThan(0);
+            softly.assertThat(cpu.opsPerCpuSecond()).isGreaterThan(0);
+            softly.assertThat(cpu.onCpuShare()).isBetween(0.0, 1.0);
+            softly.assertThat(cpu.onCpuShare() + cpu.offCpuShare()).isCloseTo(1.0, within(1e-9));
+        });
+    }
+
+    @Test
+    @DisplayName("cpuMetrics run이 끝나면 JVM의 thread CPU time 설정이 원래대로 돌아간다")
+    void shouldRestoreThreadCpuTimeSettingAfterRun() throws InterruptedException {
+        // given
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadCpuTimeSupported());
+        boolean original = threads.isThreadCpuTimeEnabled();
+        threads.setThreadCpuTimeEnabled(false);
+        RunSpec spec = RunSpec.builder()
+                .threads(2)
+                .duration(Duration.ofMillis(50))
+                .totalTimeout(Duration.ofSeconds(5))
+                .cpuMetrics(true)
+                .task(() -> Math.sqrt(System.nanoTime()))
+                .build();
+
+        // when
+        RunStats result;
+        boolean afterRun;
+        try {
+            result = ConcurRunner.run(spec);
+            afterRun = threads.isThreadCpuTimeEnabled();
+        } finally {
+            threads.setThreadCpuTimeEnabled(original);
+        }
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(result.cpu().workerCpuNanos()).isGreaterThan(0);
+            softly.assertThat(afterRun).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("cpuMetrics run을 기다리던 thread가 interrupt되어도 sampler가 멈추고 설정이 원래대로 돌아간다")
+    void shouldRestoreThreadCpuTimeSettingWhenCallerIsInterrupted() throws Exception {
+        // given
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadCpuTimeSupported());
+        boolean original = threads.isThreadCpuTimeEnabled();
+        threads.setThreadCpuTimeEnabled(false);
+        RunSpec spec = RunSpec.builder()
+                .threads(2)
+                .duration(Duration.ofSeconds(30))
+                .totalTimeout(Duration.ofSeconds(60))
+                .threadNamePrefix("cpu-interrupted")
+                .cpuMetrics(true)
+                .task(() -> Math.sqrt(System.nanoTime()))
+                .build();
+        CompletableFuture<Throwable> outcome = new CompletableFuture<>();
+        Thread caller = new Thread(() -> {
+            try {
+                ConcurRunner.run(spec);
+                outcome.complete(null);
+            } catch (Throwable t) {
+                outcome.complete(t);
+            }
+        });
+
+        // when
+        Throwable thrown;
+        boolean afterRun;
+        try {
+            caller.start();
+            Thread.sleep(200);
+            caller.interrupt();
+            thrown = outcome.get(5, TimeUnit.SECONDS);
+            afterRun = threads.isThreadCpuTimeEnabled();
+        } finally {
+            threads.setThreadCpuTimeEnabled(original);
+        }
+        Thread.sleep(100);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(thrown).isInstanceOf(InterruptedException.class);
+            softly.assertThat(afterRun).isFalse();
+            softly.assertThat(Thread.getAllStackTraces().keySet())
+                    .noneMatch(t -> t.getName().equals("cpu-interrupted-cpu-sampler"));
+        });
+    }
+
+    @Test
+    @DisplayName("cpuMetrics를 켜지 않으면 cpu 통계는 null이다")
+    void shouldNotReportCpuMetricsByDefault() throws InterruptedException {
+        // given
+        RunSpec spec = RunSpec.builder()
+                .threads(1)
+                .duration(Duration.ofMillis(20))
+                .totalTimeout(Duration.ofSeconds(5))
+                .task(() -> {
+                })
+                .build();
+
+        // when
+        RunStats result = ConcurRunner.run(spec);
+
+        // then
+        assertThat(result.cpu()).isNull();
+    }
+
+    @Test
+    @DisplayName("fuzz 모드에서는 interleaving point에 지연이 주입되고 seed가 보고된다")
+    void shouldInjectDelaysAtInterleavingPointsWhenFuzzing() throws InterruptedException {
+        // given
+        AtomicBoolean busy = new AtomicBoolean(false);
+        RunSpec spec = RunSpec.builder()
+                .threads(4)
+                .duration(Duration.ofMillis(200))
+                .totalTimeout(Duration.ofSeconds(5))
+                .fuzz(42)
+                .task(() -> {
+                    if (!busy.get()) {
+                        ConcurSpec.point("afterCheck");
+                        if (busy.getAndSet(true)) {
+                            throw new IllegalStateException("two workers inside the critical section");
+                        }
+                        busy.set(false);
+                    }
+                })
+                .build();
+
+        // when
+        RunStats result = ConcurRunner.run(spec);
+
+        // then
+        FuzzReport fuzz = result.fuzz();
+        assertSoftly(softly -> {
+            softly.assertThat(fuzz).isNotNull();
+            softly.assertThat(fuzz.seed()).isEqualTo(42);
+            softly.assertThat(fuzz.pointHits()).isGreaterThan(0);
+            softly.assertThat(fuzz.injections()).isBetween(1L, fuzz.pointHits());
+            softly.assertThat(fuzz.racesFound()).isBetween(0L, result.failureCount());
+            softly.assertThat(fuzz.elapsedNanos()).isGreaterThan(0);
+        });
+    }
+
+    @Test
+    @DisplayName("지연이 주입되지 않은 작업의 실패는 race로 세지 않는다")
+    void shouldNotCountFailuresWithoutInjectionAsRaces() throws InterruptedException {
+        // given
+        RunSpec spec = RunSpec.builder()
+                .threads(2)
+                .duration(Duration.ofMillis(50))
+                .totalTimeout(Duration.ofSeconds(5))
+                .fuzz(42)
+                .task(() -> {
+                    throw new IllegalStateException("always fails, never reaches a point");
+                })
+                .build();
+
+        // when
+        RunStats result = ConcurRunner.run(spec);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(result.failureCount()).isGreaterThan(0);
+            softly.assertThat(result.fuzz().racesFound()).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("fuzz 모드가 아니면 interleaving point는 아무 일도 하지 않는다")
+    void shouldIgnoreInterleavingPointsWithoutFuzzing() throws InterruptedException {
+        // given
+        RunSpec spec = RunSpec.builder()
+                .threads(2)
+                .duration(Duration.ofMillis(50))
+                .totalTimeout(Duration.ofSeconds(5))
+                .task(() -> ConcurSpec.point("noop"))
+                .build();
+
+        // when
+        RunStats result = ConcurRunner.run(spec);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(result.fuzz()).isNull();
+            softly.assertThat(result.successCount()).isGreaterThan(0);
+        });
+    }
+
     @Test
     @DisplayName("성공과 실패가 혼재된 경우 모두 카운트된다")
     void shouldCountBothSuccessAndFailure() throws InterruptedException {
@@ -0,0 +1,258 @@
+package io.github.concurspec;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class ForkedRunnerTest {
+
+    public static final class SpinSpec implements Supplier<RunSpec> {
+        @Override
+        public RunSpec get() {
+            return RunSpec.builder()
+                    .threads(4)
+                    .duration(Duration.ofMillis(200))
+                    .totalTimeout(Duration.ofSeconds(5))
+                    .task(() -> Math.sqrt(System.nanoTime()))
+                    .build();
+        }
+    }
+
+    public static final class LongSpinSpec implements Supplier<RunSpec> {
+        @Override
+        public RunSpec get() {
+            return RunSpec.builder()
+                    .threads(4)
+                    .duration(Duration.ofSeconds(3))
+                    .totalTimeout(Duration.ofSeconds(10))
+                    .task(() -> Math.sqrt(System.nanoTime()))
+                    .build();
+        }
+    }
+
+    public static final class RandomFuzzSpec implements Supplier<RunSpec> {
+        @Override
+        public RunSpec get() {
+            return RunSpec.builder()
+                    .threads(2)
+                    .duration(Duration.ofMillis(200))
+                    .totalTimeout(Duration.ofSeconds(5))
+                    .fuzz()
+                    .task(() -> ConcurSpec.point("spin"))
+                    .build();
+        }
+    }
+
+    public static final class InstrumentedSpec implements Supplier<RunSpec> {
+        private static final ConcurSpec.Phase WORK = ConcurSpec.phase("work");
+        private static final ThreadLocal<Boolean> FIRST = ThreadLocal.withInitial(() -> true);
+
+        @Override
+        public RunSpec get() {
+            return RunSpec.builder()
+                    .threads(4)
+                    .duration(Duration.ofMillis(200))
+                    .totalTimeout(Duration.ofSeconds(5))
+                    .phases("work")
+                    .slowestK(4)
+                    .cpuMetrics(true)
+                    .task(() -> {
+                        long t = WORK.start();
+                        if (FIRST.get()) {
+                            // one clearly slowest operation per worker thread
+                            FIRST.set(false);
+                            try {
+                                Thread.sleep(50);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        }
+                        Math.sqrt(System.nanoTime());
+                        WORK.end(t);
+                    })
+                    .build();
+        }
+    }
+
+    public static final class FailingSpec implements Supplier<RunSpec> {
+        @Override
+        public RunSpec get() {
+            return RunSpec.builder()
+                    .threads(2)
+                    .duration(Duration.ofMillis(100))
+                    .totalTimeout(Duration.ofSeconds(5))
+                    .task(() -> {
+                        throw new IllegalStateException("boom");
+                    })
+                    .build();
+        }
+    }
+
+    @Test
+    @DisplayName("여러 프로세스의 카운터와 히스토그램이 병합된다")
+    void shouldMergeStatsFromWorkerProcesses() throws InterruptedException {
+        // given
+        ForkSpec fork = ForkSpec.builder()
+                .processes(2)
+                .specFactory(SpinSpec.class)
+                .build();
+
+        // when
+        RunStats forked = ForkedRunner.run(fork);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(forked.successCount()).isGreaterThan(0);
+            softly.assertThat(forked.failureCount()).isEqualTo(0);
+            softly.assertThat(forked.errors()).isEmpty();
+            softly.assertThat(forked.latency().count()).isEqualTo(forked.successCount());
+        });
+    }
+
+    @Test
+    @DisplayName("여러 프로세스의 phase, 가장 느린 작업, cpu 통계가 병합된다")
+    void shouldMergePhasesSlowestOperationsAndCpuFromWorkerProcesses() throws InterruptedException {
+        // given
+        ForkSpec fork = ForkSpec.builder()
+                .processes(2)
+                .specFactory(InstrumentedSpec.class)
+                .build();
+
+        // when
+        RunStats forked = ForkedRunner.run(fork);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(forked.phase("work").count()).isEqualTo(forked.latency().count());
+            softly.assertThat(forked.slowestOperations()).hasSize(4);
+            softly.assertThat(forked.slowestOperations()).allMatch(op -> op.latencyNanos() >= 50_000_000L);
+            softly.assertThat(forked.slowestOperations()).anyMatch(op -> op.worker().contains("-p0-"));
+            softly.assertThat(forked.slowestOperations()).anyMatch(op -> op.worker().contains("-p1-"));
+            softly.assertThat(forked.cpu()).isNotNull();
+            softly.assertThat(forked.cpu().operations()).isEqualTo(forked.latency().count());
+            softly.assertThat(forked.cpu().workerCpuNanos()).isPositive();
+        });
+    }
+
+    @Test
+    @DisplayName("워커가 index 순서와 다르게 접속해도 결과 수집에 run 전체 timeout이 적용된다")
+    void shouldCollectResultsWhenWorkersConnectOutOfOrder() throws InterruptedException {
+        // given: worker 0 connects last, after the others have used up most of the startup window
+        ForkSpec fork = ForkSpec.builder()
+                .processes(4)
+                .specFactory(LongSpinSpec.class)
+                .startupTimeout(Duration.ofSeconds(3))
+                .build();
+        ForkedRunner.Launcher delayFirst = (command, index) -> {
+            List<String> cmd = new ArrayList<>();
+            if (index == 0) cmd.addAll(List.of("sh", "-c", "sleep 1.5; exec \"$0\" \"$@\""));
+            cmd.addAll(command);
+            return new ProcessBuilder(cmd).inheritIO().start();
+        };
+
+        // when
+        RunStats forked = ForkedRunner.run(fork, delayFirst);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(forked.successCount()).isGreaterThan(0);
+            softly.assertThat(forked.errors()).isEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("forked fuzz run은 coordinator의 seed 하나로 보고된다")
+    void shouldReportCoordinatorSeedForForkedFuzzRun() throws InterruptedException {
+        // given
+        ForkSpec fork = ForkSpec.builder()
+                .processes(2)
+                .specFactory(RandomFuzzSpec.class)
+                .build();
+
+        // when
+        RunStats result = ForkedRunner.run(fork);
+
+        // then
+        FuzzReport fuzz = result.fuzz();
+        assertSoftly(softly -> {
+            softly.assertThat(fuzz).isNotNull();
+            softly.assertThat(fuzz.pointHits()).isGreaterThan(0);
+            softly.assertThat(fuzz.injections()).isGreaterThan(0);
+        });
+    }
+
+    @Test
+    @DisplayName("각 프로세스의 fuzz seed는 coordinator seed에서 결정적으로 파생된다")
+    void shouldDeriveProcessSeedsFromCoordinatorSeed() {
+        // given
+        RunSpec spec = new RandomFuzzSpec().get();
+
+        // when
+        RunSpec first = ForkedWorker.slice(spec, 0, 2, 42L);
+        RunSpec second = ForkedWorker.slice(spec, 1, 2, 42L);
+        RunSpec replayed = ForkedWorker.slice(new RandomFuzzSpec().get(), 0, 2, 42L);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(first.fuzzSeed()).isEqualTo(replayed.fuzzSeed());
+            softly.assertThat(first.fuzzSeed()).isNotEqualTo(second.fuzzSeed());
+            softly.assertThat(first.fuzzSeed()).isNotEqualTo(spec.fuzzSeed());
+        });
+    }
+
+    @Test
+    @DisplayName("워커 프로세스의 에러가 전달된다")
+    void shouldShipErrorsFromWorkerProcesses() throws InterruptedException {
+        // given
+        ForkSpec fork = ForkSpec.builder()
+                .processes(2)
+                .specFactory(FailingSpec.class)
+                .build();
+
+        // when
+        RunStats result = ForkedRunner.run(fork);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(result.failureCount()).isGreaterThan(0);
+            softly.assertThat(result.errors()).isNotEmpty();
+            softly.assertThat(result.errors()).allMatch(e -> e.getMessage().contains("IllegalStateException: boom"));
+        });
+    }
+
+    @Test
+    @DisplayName("프로세스 수가 스레드 수보다 많으면 예외가 발생한다")
+    void shouldRejectMoreProcessesThanThreads() {
+        // given
+        ForkSpec fork = ForkSpec.builder()
+                .processes(3)
+                .specFactory(FailingSpec.class)
+                .build();
+
+        // when & then
+        assertThatThrownBy(() -> ForkedRunner.run(fork))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("processes");
+    }
+
+    @Test
+    @DisplayName("processes가 0 이하이면 예외가 발생한다")
+    void shouldThrowExceptionWhenProcessesIsZeroOrNegative() {
+        // when & then
+        assertThatThrownBy(() ->
+                ForkSpec.builder()
+                        .processes(0)
+                        .specFactory(SpinSpec.class)
+                        .build()
+        )
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("processes");
+    }
+}
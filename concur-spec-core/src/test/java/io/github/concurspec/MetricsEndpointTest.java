@@ -0,0 +1,118 @@
+package io.github.concurspec;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class MetricsEndpointTest {
+
+    @Test
+    @DisplayName("실행 중인 run의 카운터와 latency가 OpenMetrics 형식으로 노출된다")
+    void shouldExposeLiveMetricsWhileRunning() throws Exception {
+        try (MetricsEndpoint metrics = MetricsEndpoint.start(0, Duration.ofMillis(100))) {
+            // given
+            RunSpec spec = RunSpec.builder()
+                    .threads(2)
+                    .duration(Duration.ofMillis(500))
+                    .totalTimeout(Duration.ofSeconds(5))
+                    .threadNamePrefix("live")
+                    .metrics(metrics)
+                    .task(() -> Math.sqrt(System.nanoTime()))
+                    .build();
+            CompletableFuture<RunStats> run = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return ConcurRunner.run(spec);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+
+            // when
+            Thread.sleep(200);
+            HttpResponse<String> during = scrape(metrics);
+            run.get();
+            HttpResponse<String> after = scrape(metrics);
+
+            // then
+            assertSoftly(softly -> {
+                softly.assertThat(during.statusCode()).isEqualTo(200);
+                softly.assertThat(during.headers().firstValue("Content-Type"))
+                        .hasValueSatisfying(v -> assertThat(v).startsWith("application/openmetrics-text"));
+                softly.assertThat(during.body()).contains("concurspec_running{run=\"live\"} 1");
+                softly.assertThat(during.body()).contains("concurspec_operations_total{run=\"live\",outcome=\"success\"}");
+                softly.assertThat(during.body()).contains("concurspec_ops_per_second{run=\"live\"}");
+                softly.assertThat(during.body()).contains("concurspec_latency_seconds{run=\"live\",quantile=\"0.99\"}");
+                softly.assertThat(during.body()).endsWith("# EOF\n");
+                softly.assertThat(after.body()).contains("concurspec_running{run=\"live\"} 0");
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("run을 기다리던 thread가 interrupt되어도 running 0으로 내려간다")
+    void shouldDetachRunWhenCallerIsInterrupted() throws Exception {
+        try (MetricsEndpoint metrics = MetricsEndpoint.start(0)) {
+            // given
+            RunSpec spec = RunSpec.builder()
+                    .threads(2)
+                    .duration(Duration.ofSeconds(30))
+                    .totalTimeout(Duration.ofSeconds(60))
+                    .threadNamePrefix("interrupted")
+                    .metrics(metrics)
+                    .task(() -> Math.sqrt(System.nanoTime()))
+                    .build();
+            CompletableFuture<Throwable> outcome = new CompletableFuture<>();
+            Thread caller = new Thread(() -> {
+                try {
+                    ConcurRunner.run(spec);
+                    outcome.complete(null);
+                } catch (Throwable t) {
+                    outcome.complete(t);
+                }
+            });
+            caller.start();
+
+            // when
+            Thread.sleep(200);
+            String during = metrics.render();
+            caller.interrupt();
+            Throwable thrown = outcome.get(5, TimeUnit.SECONDS);
+            String after = metrics.render();
+
+            // then
+            assertSoftly(softly -> {
+                softly.assertThat(thrown).isInstanceOf(InterruptedException.class);
+                softly.assertThat(during).contains("concurspec_running{run=\"interrupted\"} 1");
+                softly.assertThat(after).contains("concurspec_running{run=\"interrupted\"} 0");
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("attach된 run이 없으면 running 0만 노출된다")
+    void shouldReportIdleWithoutRun() {
+        try (MetricsEndpoint metrics = MetricsEndpoint.start(0)) {
+            // when
+            String body = metrics.render();
+
+            // then
+            assertThat(body).contains("concurspec_running 0").endsWith("# EOF\n");
+        }
+    }
+
+    private static HttpResponse<String> scrape(MetricsEndpoint metrics) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + metrics.port() + "/metrics")).build();
+        return HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
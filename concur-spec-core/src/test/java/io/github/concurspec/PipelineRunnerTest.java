@@ -0,0 +1,195 @@
+package io.github.concurspec;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class PipelineRunnerTest {
+
+    @Test
+    @DisplayName("큐로 연결된 producer/consumer의 대기, 처리, end-to-end latency가 기록된다")
+    void shouldMeasureQueueWaitServiceAndEndToEndLatency() throws InterruptedException {
+        // given
+        AtomicLong sum = new AtomicLong();
+        RunSpec spec = RunSpec.builder()
+                .duration(Duration.ofMillis(200))
+                .totalTimeout(Duration.ofSeconds(5))
+                .pipeline(PipelineSpec.<Long>builder()
+                        .producers(2)
+                        .consumers(2)
+                        .queue(new ArrayBlockingQueue<>(256))
+                        .producer(() -> 1L)
+                        .consumer(sum::addAndGet)
+                        .depthSampleInterval(Duration.ofMillis(10))
+                        .build())
+                .build();
+
+        // when
+        RunStats result = ConcurRunner.run(spec);
+
+        // then
+        PipelineStats pipeline = result.pipeline();
+        assertSoftly(softly -> {
+            softly.assertThat(pipeline).isNotNull();
+            softly.assertThat(pipeline.produced()).isGreaterThan(0);
+            softly.assertThat(pipeline.consumed()).isEqualTo(pipeline.produced());
+            softly.assertThat(sum.get()).isEqualTo(pipeline.consumed());
+            softly.assertThat(result.successCount()).isEqualTo(pipeline.consumed());
+            softly.assertThat(result.latency()).isSameAs(pipeline.endToEnd());
+            softly.assertThat(pipeline.queueWait().count()).isEqualTo(pipeline.consumed());
+            softly.assertThat(pipeline.service().count()).isEqualTo(pipeline.consumed());
+            softly.assertThat(pipeline.endToEnd().maxNanos()).isGreaterThanOrEqualTo(pipeline.queueWait().maxNanos());
+            softly.assertThat(pipeline.depth()).isNotEmpty();
+            softly.assertThat(pipeline.maxDepth()).isBetween(0, 256);
+        });
+    }
+
+    @Test
+    @DisplayName("Executor로 연결된 경우에도 모든 작업이 처리되고 큐 깊이가 샘플링된다")
+    void shouldDrainExecutorPipeline() throws InterruptedException {
+        // given
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        RunSpec spec = RunSpec.builder()
+                .duration(Duration.ofMillis(100))
+                .totalTimeout(Duration.ofSeconds(5))
+                .pipeline(PipelineSpec.<Integer>builder()
+                        .producers(1)
+                        .executor(executor)
+                        .producer(() -> 42)
+                        .consumer(v -> {
+                        })
+                        .depthSampleInterval(Duration.ofMillis(10))
+                        .build())
+                .build();
+
+        // when
+        RunStats result;
+        try {
+            result = ConcurRunner.run(spec);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        PipelineStats pipeline = result.pipeline();
+        assertSoftly(softly -> {
+            softly.assertThat(pipeline.produced()).isGreaterThan(0);
+            softly.assertThat(pipeline.consumed()).isEqualTo(pipeline.produced());
+            softly.assertThat(result.errors()).isEmpty();
+            softly.assertThat(pipeline.depth()).isNotEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("Executor 모드에서는 consumer 안의 phase가 기록되지 않고 producer의 phase만 기록된다")
+    void shouldIgnorePhasesInsideExecutorConsumers() throws InterruptedException {
+        // given
+        ConcurSpec.Phase produce = ConcurSpec.phase("produce");
+        ConcurSpec.Phase consume = ConcurSpec.phase("consume");
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        RunSpec spec = RunSpec.builder()
+                .duration(Duration.ofMillis(100))
+                .totalTimeout(Duration.ofSeconds(5))
+                .phases("produce", "consume")
+                .pipeline(PipelineSpec.<Integer>builder()
+                        .producers(1)
+                        .executor(executor)
+                        .producer(() -> {
+                            produce.record(1_000);
+                            return 42;
+                        })
+                        .consumer(v -> consume.record(1_000))
+                        .build())
+                .build();
+
+        // when
+        RunStats result;
+        try {
+            result = ConcurRunner.run(spec);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(result.pipeline().consumed()).isGreaterThan(0);
+            softly.assertThat(result.phase("produce").count()).isGreaterThanOrEqualTo(result.pipeline().produced());
+            softly.assertThat(result.phase("consume").count()).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("consumer가 예외를 던지면 실패로 집계된다")
+    void shouldCountConsumerFailures() throws InterruptedException {
+        // given
+        RunSpec spec = RunSpec.builder()
+                .duration(Duration.ofMillis(50))
+                .totalTimeout(Duration.ofSeconds(5))
+                .maxPendingFailures(3)
+                .pipeline(PipelineSpec.<String>builder()
+                        .queue(new LinkedBlockingQueue<>())
+                        .producer(() -> "item")
+                        .consumer(v -> {
+                            throw new IllegalStateException("consumer failure");
+                        })
+                        .build())
+                .build();
+
+        // when
+        RunStats result = ConcurRunner.run(spec);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(result.failureCount()).isGreaterThanOrEqualTo(3);
+            softly.assertThat(result.successCount()).isEqualTo(0);
+            softly.assertThat(result.errors()).anyMatch(e -> "consumer failure".equals(e.getMessage()));
+        });
+    }
+
+    @Test
+    @DisplayName("queue와 executor를 모두 지정하거나 모두 생략하면 예외가 발생한다")
+    void shouldRequireExactlyOneOfQueueOrExecutor() {
+        // when & then
+        assertThatThrownBy(() ->
+                PipelineSpec.<String>builder()
+                        .producer(() -> "item")
+                        .consumer(v -> {
+                        })
+                        .build()
+        )
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("queue or executor");
+    }
+
+    @Test
+    @DisplayName("task와 pipeline을 함께 지정하면 예외가 발생한다")
+    void shouldRejectTaskTogetherWithPipeline() {
+        // given
+        PipelineSpec<String> pipeline = PipelineSpec.<String>builder()
+                .queue(new LinkedBlockingQueue<>())
+                .producer(() -> "item")
+                .consumer(v -> {
+                })
+                .build();
+
+        // when & then
+        assertThatThrownBy(() ->
+                RunSpec.builder()
+                        .task(() -> {
+                        })
+                        .pipeline(pipeline)
+                        .build()
+        )
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("mutually exclusive");
+    }
+}
@@ -3,7 +3,9 @@ package io.github.concurspec;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
@@ -174,4 +176,112 @@ class RunSpecTest {
                 .hasMessageContaining("task");
     }
 
+    @Test
+    @DisplayName("stuckThreshold가 0 또는 음수이면 예외가 발생한다")
+    void shouldThrowExceptionWhenStuckThresholdIsZeroOrNegative() {
+        // given
+        Runnable task = () -> {
+        };
+
+        // when & then
+        assertThatThrownBy(() ->
+                RunSpec.builder()
+                        .stuckThreshold(Duration.ZERO)
+                        .task(task)
+                        .build()
+        )
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("stuckThreshold");
+    }
+
+    @Test
+    @DisplayName("slowestK가 음수이면 예외가 발생한다")
+    void shouldThrowExceptionWhenSlowestKIsNegative() {
+        // given
+        Runnable task = () -> {
+        };
+
+        // when & then
+        assertThatThrownBy(() ->
+                RunSpec.builder()
+                        .slowestK(-1)
+                        .task(task)
+                        .build()
+        )
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("slowestK");
+    }
+
+    @Test
+    @DisplayName("checkpoint 주기가 0 또는 null이면 예외가 발생한다")
+    void shouldThrowExceptionWhenCheckpointIntervalIsNotPositive() {
+        // given
+        Runnable task = () -> {
+        };
+
+        // when & then
+        assertThatThrownBy(() ->
+                RunSpec.builder()
+                        .checkpoint(Path.of("run.ckpt"), Duration.ZERO)
+                        .task(task)
+                        .build()
+        )
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("checkpointInterval");
+        assertThatThrownBy(() ->
+                RunSpec.builder()
+                        .checkpoint(Path.of("run.ckpt"), null)
+                        .task(task)
+                        .build()
+        )
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("checkpointInterval");
+    }
+
+    @Test
+    @DisplayName("toBuilder 후에도 errors로 기존 에러 큐를 이어서 쓸 수 있다")
+    void shouldReuseErrorQueueWhenRebuilding() {
+        // given
+        RunSpec spec = RunSpec.builder()
+                .task(() -> {
+                })
+                .build();
+
+        // when
+        RunSpec fresh = spec.toBuilder().build();
+        RunSpec shared = spec.toBuilder().errors(spec.errors()).build();
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(fresh.errors()).isNotSameAs(spec.errors());
+            softly.assertThat(shared.errors()).isSameAs(spec.errors());
+        });
+    }
+
+    @Test
+    @DisplayName("0.1.0 형태의 생성자는 추가 옵션을 모두 끈 spec을 만든다")
+    void shouldKeepOriginalConstructorWithDefaults() {
+        // given
+        ConcurrentLinkedQueue<Throwable> errors = new ConcurrentLinkedQueue<>();
+        Runnable task = () -> {
+        };
+
+        // when
+        RunSpec spec = new RunSpec(4, Duration.ofSeconds(1), Duration.ofSeconds(5), "legacy", 0, task, errors);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(spec.threads()).isEqualTo(4);
+            softly.assertThat(spec.errors()).isSameAs(errors);
+            softly.assertThat(spec.stuckThreshold()).isNull();
+            softly.assertThat(spec.slowestK()).isZero();
+            softly.assertThat(spec.operationName()).isEqualTo("task");
+            softly.assertThat(spec.phases()).isEmpty();
+            softly.assertThat(spec.cpuMetrics()).isFalse();
+            softly.assertThat(spec.fuzzSeed()).isNull();
+            softly.assertThat(spec.pipeline()).isNull();
+            softly.assertThat(spec.metrics()).isNull();
+            softly.assertThat(spec.checkpointFile()).isNull();
+        });
+    }
 }
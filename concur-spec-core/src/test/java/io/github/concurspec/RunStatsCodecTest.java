@@ -0,0 +1,97 @@
+package io.github.concurspec;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class RunStatsCodecTest {
+
+    @Test
+    @DisplayName("RunStats의 모든 필드가 그대로 왕복된다")
+    void shouldRoundTripEveryField() throws IOException {
+        // given
+        long[] buckets = new long[64];
+        buckets[10] = 3;
+        buckets[20] = 1;
+        LatencySnapshot latency = new LatencySnapshot(buckets, 4, 1_000, 1_200_000, 1_205_000);
+        long[] phaseBuckets = new long[64];
+        phaseBuckets[9] = 4;
+        LatencySnapshot phase = new LatencySnapshot(phaseBuckets, 4, 500, 900, 2_800);
+        IllegalStateException error = new IllegalStateException("boom");
+        error.setStackTrace(new StackTraceElement[]{
+                new StackTraceElement("com.example.Task", "run", "Task.java", 42)
+        });
+        StuckOperation stuck = new StuckOperation("worker-1", 2_000_000_000L, List.of(
+                new StackTraceElement("java.lang.Thread", "sleep", "Thread.java", 509),
+                new StackTraceElement("com.example.Task", "run", "Task.java", 17)));
+        List<SlowOperation> slowest = List.of(
+                new SlowOperation(1_200_000, 5_000, "worker-2", "op", true),
+                new SlowOperation(900_000, 7_000, "worker-1", "op", false));
+        CpuStats cpu = new CpuStats(1_000_000_000L, 800_000_000L, 700_000_000L, 900_000_000L, 4,
+                12, 3, 50_000, 1.5, 4);
+        FuzzReport fuzz = new FuzzReport(7, 100, 10, 2, 1_000_000_000L);
+        RunStats stats = new RunStats(3, 1, List.of(error), latency, List.of(stuck), slowest,
+                Map.of("work", phase), cpu, fuzz, null);
+
+        // when
+        RunStats decoded = roundTrip(stats);
+
+        // then
+        RunStatsCodec.RemoteError remote = (RunStatsCodec.RemoteError) decoded.errors().iterator().next();
+        assertSoftly(softly -> {
+            softly.assertThat(decoded.successCount()).isEqualTo(3);
+            softly.assertThat(decoded.failureCount()).isEqualTo(1);
+            softly.assertThat(decoded.errors()).hasSize(1);
+            softly.assertThat(remote.remoteType()).isEqualTo(IllegalStateException.class.getName());
+            softly.assertThat(remote.remoteMessage()).isEqualTo("boom");
+            softly.assertThat(remote.getStackTrace()).containsExactly(error.getStackTrace());
+            softly.assertThat(decoded.latency()).usingRecursiveComparison().isEqualTo(latency);
+            softly.assertThat(decoded.stuckOperations()).containsExactly(stuck);
+            softly.assertThat(decoded.slowestOperations()).containsExactlyElementsOf(slowest);
+            softly.assertThat(decoded.phases()).containsOnlyKeys("work");
+            softly.assertThat(decoded.phase("work")).usingRecursiveComparison().isEqualTo(phase);
+            softly.assertThat(decoded.cpu()).isEqualTo(cpu);
+            softly.assertThat(decoded.fuzz()).isEqualTo(fuzz);
+            softly.assertThat(decoded.pipeline()).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("메시지와 파일 이름이 없는 에러도 null 그대로 전달된다")
+    void shouldKeepNullMessageAndFileName() throws IOException {
+        // given
+        IllegalStateException error = new IllegalStateException();
+        error.setStackTrace(new StackTraceElement[]{
+                new StackTraceElement("com.example.Native", "call", null, -2)
+        });
+        RunStats stats = new RunStats(0, 1, List.of(error), LatencySnapshot.empty());
+
+        // when
+        RunStats decoded = roundTrip(stats);
+
+        // then
+        RunStatsCodec.RemoteError remote = (RunStatsCodec.RemoteError) decoded.errors().iterator().next();
+        assertSoftly(softly -> {
+            softly.assertThat(remote.remoteType()).isEqualTo(IllegalStateException.class.getName());
+            softly.assertThat(remote.remoteMessage()).isNull();
+            softly.assertThat(remote.getMessage()).isEqualTo(IllegalStateException.class.getName());
+            softly.assertThat(remote.getStackTrace()[0].getFileName()).isNull();
+            softly.assertThat(remote.getStackTrace()[0].getLineNumber()).isEqualTo(-2);
+        });
+    }
+
+    private static RunStats roundTrip(RunStats stats) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        RunStatsCodec.write(new DataOutputStream(bytes), stats);
+        return RunStatsCodec.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+}
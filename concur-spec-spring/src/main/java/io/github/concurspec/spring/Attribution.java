@@ -0,0 +1,33 @@
+package io.github.concurspec.spring;
+
+/**
+ * Time spent by the current operation in connection acquisition and transaction control.
+ * Active on a worker thread only while {@link SpringConcurRunner} is running one task call.
+ */
+final class Attribution {
+    private static final ThreadLocal<Attribution> CURRENT = ThreadLocal.withInitial(Attribution::new);
+
+    private boolean active;
+    long poolWaitNanos;
+    long transactionNanos;
+
+    /**
+     * The current operation's attribution, or {@code null} outside a {@link SpringConcurRunner} task.
+     */
+    static Attribution current() {
+        Attribution a = CURRENT.get();
+        return a.active ? a : null;
+    }
+
+    static Attribution begin() {
+        Attribution a = CURRENT.get();
+        a.active = true;
+        a.poolWaitNanos = 0;
+        a.transactionNanos = 0;
+        return a;
+    }
+
+    void end() {
+        active = false;
+    }
+}
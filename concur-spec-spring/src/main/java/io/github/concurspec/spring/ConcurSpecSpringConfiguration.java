@@ -0,0 +1,23 @@
+package io.github.concurspec.spring;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Test configuration enabling latency attribution for {@link SpringConcurRunner}.
+ *
+ * <pre>{@code
+ * @SpringJUnitConfig({AppConfig.class, ConcurSpecSpringConfiguration.class})
+ * // or, with Spring Boot:
+ * @SpringBootTest
+ * @Import(ConcurSpecSpringConfiguration.class)
+ * }</pre>
+ */
+@Configuration(proxyBeanMethods = false)
+public class ConcurSpecSpringConfiguration {
+
+    @Bean
+    public static ConcurSpecTimingPostProcessor concurSpecTimingPostProcessor() {
+        return new ConcurSpecTimingPostProcessor();
+    }
+}
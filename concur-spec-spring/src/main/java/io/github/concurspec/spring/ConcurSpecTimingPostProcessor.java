@@ -0,0 +1,30 @@
+package io.github.concurspec.spring;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps every {@link DataSource} bean in a {@link TimedDataSource} and every
+ * {@link PlatformTransactionManager} bean in a {@link TimedTransactionManager}
+ * (keeping {@code ResourceTransactionManager} when the original implements it).
+ *
+ * <p>
+ * The wrappers only implement the interfaces, so beans must be injected by interface
+ * type (not e.g. as {@code HikariDataSource} or {@code DataSourceTransactionManager}).
+ * </p>
+ */
+public class ConcurSpecTimingPostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource ds && !(bean instanceof TimedDataSource)) {
+            return new TimedDataSource(ds);
+        }
+        if (bean instanceof PlatformTransactionManager tm && !(bean instanceof TimedTransactionManager)) {
+            return TimedTransactionManager.wrap(tm);
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.concurspec.spring;
+
+import io.github.concurspec.ConcurRunner;
+import io.github.concurspec.ConcurSpec;
+import io.github.concurspec.RunSpec;
+import io.github.concurspec.RunStats;
+
+/**
+ * Runs a {@link RunSpec} against Spring beans and splits each operation's latency into
+ * connection acquisition, transaction control and business logic.
+ *
+ * <pre>{@code
+ * @SpringJUnitConfig({AppConfig.class, ConcurSpecSpringConfiguration.class})
+ * class OrderServiceConcurrencyTest {
+ *     @Autowired OrderService orders;
+ *
+ *     @Test
+ *     void placeOrders() throws InterruptedException {
+ *         RunStats stats = SpringConcurRunner.run(RunSpec.builder().task(() -> orders.place(1L)).build());
+ *         stats.phase(SpringConcurRunner.POOL_WAIT).p99Nanos();
+ *         TransactionBreakdown.of(stats).poolWaitShare();
+ *     }
+ * }
+ * }</pre>
+ *
+ * <p>
+ * Each operation records one sample in each of the three phases, so they add up to
+ * {@link RunStats#latency()}:
+ * </p>
+ * <ul>
+ *   <li>{@value #POOL_WAIT}: time inside {@code DataSource.getConnection}</li>
+ *   <li>{@value #TRANSACTION}: time inside begin/commit/rollback, excluding pool wait</li>
+ *   <li>{@value #BUSINESS}: everything else</li>
+ * </ul>
+ *
+ * <p>
+ * Attribution requires {@link ConcurSpecSpringConfiguration} in the context; without it
+ * all time is reported as business logic. Work handed to other threads is not attributed.
+ * As with {@link ConcurRunner#run(RunSpec)}, errors are collected into {@code spec.errors()}.
+ * </p>
+ */
+public final class SpringConcurRunner {
+    public static final String POOL_WAIT = "pool-wait";
+    public static final String TRANSACTION = "transaction";
+    public static final String BUSINESS = "business";
+
+    private static final ConcurSpec.Phase POOL_WAIT_PHASE = ConcurSpec.phase(POOL_WAIT);
+    private static final ConcurSpec.Phase TRANSACTION_PHASE = ConcurSpec.phase(TRANSACTION);
+    private static final ConcurSpec.Phase BUSINESS_PHASE = ConcurSpec.phase(BUSINESS);
+
+    private SpringConcurRunner() {
+    }
+
+    public static RunStats run(RunSpec spec) throws InterruptedException {
+        if (spec.pipeline() != null) {
+            throw new IllegalArgumentException("pipeline specs are not supported: consumers may run outside worker threads");
+        }
+        Runnable task = spec.task();
+        return ConcurRunner.run(spec.toBuilder()
+                .phases(POOL_WAIT, TRANSACTION, BUSINESS)
+                .task(() -> attributed(task))
+                .errors(spec.errors())
+                .build());
+    }
+
+    private static void attributed(Runnable task) {
+        Attribution a = Attribution.begin();
+        long start = System.nanoTime();
+        try {
+            task.run();
+        } finally {
+            long total = System.nanoTime() - start;
+            POOL_WAIT_PHASE.record(a.poolWaitNanos);
+            TRANSACTION_PHASE.record(a.transactionNanos);
+            BUSINESS_PHASE.record(Math.max(0, total - a.poolWaitNanos - a.transactionNanos));
+            a.end();
+        }
+    }
+}
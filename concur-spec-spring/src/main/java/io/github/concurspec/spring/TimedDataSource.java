@@ -0,0 +1,54 @@
+package io.github.concurspec.spring;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * {@link DataSource} that attributes {@code getConnection} time to {@link SpringConcurRunner#POOL_WAIT}.
+ * Connections reused from an active transaction are not requested again, so they cost nothing here.
+ */
+public class TimedDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    public TimedDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Attribution a = Attribution.current();
+        if (a == null) return super.getConnection();
+        long start = System.nanoTime();
+        try {
+            return super.getConnection();
+        } finally {
+            a.poolWaitNanos += System.nanoTime() - start;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Attribution a = Attribution.current();
+        if (a == null) return super.getConnection(username, password);
+        long start = System.nanoTime();
+        try {
+            return super.getConnection(username, password);
+        } finally {
+            a.poolWaitNanos += System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * Closes the target if it is closeable (e.g. a connection pool), since wrapping hides
+     * its destroy method from the container.
+     */
+    @Override
+    public void close() throws Exception {
+        DataSource target = obtainTargetDataSource();
+        if (target instanceof AutoCloseable c) c.close();
+        else if (target instanceof EmbeddedDatabase db) db.shutdown();
+    }
+}
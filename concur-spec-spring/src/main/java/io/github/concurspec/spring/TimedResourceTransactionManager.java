@@ -0,0 +1,22 @@
+package io.github.concurspec.spring;
+
+import org.springframework.transaction.support.ResourceTransactionManager;
+
+/**
+ * {@link TimedTransactionManager} for delegates that are {@link ResourceTransactionManager}s
+ * (e.g. {@code DataSourceTransactionManager}, {@code JpaTransactionManager}), so callers
+ * checking for that interface still see it.
+ */
+final class TimedResourceTransactionManager extends TimedTransactionManager implements ResourceTransactionManager {
+    private final ResourceTransactionManager delegate;
+
+    TimedResourceTransactionManager(ResourceTransactionManager delegate) {
+        super(delegate);
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Object getResourceFactory() {
+        return delegate.getResourceFactory();
+    }
+}
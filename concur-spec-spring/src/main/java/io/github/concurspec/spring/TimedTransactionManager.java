@@ -0,0 +1,80 @@
+package io.github.concurspec.spring;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.ResourceTransactionManager;
+
+import java.util.Objects;
+
+/**
+ * {@link PlatformTransactionManager} that attributes begin, commit and rollback time to
+ * {@link SpringConcurRunner#TRANSACTION}. Connection acquisition during begin is left to
+ * {@link TimedDataSource} and subtracted here, so the two never overlap.
+ * Use {@link #wrap(PlatformTransactionManager)} to keep {@link ResourceTransactionManager}.
+ */
+public class TimedTransactionManager implements PlatformTransactionManager {
+    private final PlatformTransactionManager delegate;
+
+    public TimedTransactionManager(PlatformTransactionManager delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+    }
+
+    /**
+     * Wraps {@code delegate}, also implementing {@link ResourceTransactionManager} if it does.
+     */
+    public static TimedTransactionManager wrap(PlatformTransactionManager delegate) {
+        if (delegate instanceof ResourceTransactionManager rtm) return new TimedResourceTransactionManager(rtm);
+        return new TimedTransactionManager(delegate);
+    }
+
+    public PlatformTransactionManager getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public TransactionStatus getTransaction(TransactionDefinition definition) throws TransactionException {
+        Attribution a = Attribution.current();
+        if (a == null) return delegate.getTransaction(definition);
+        long poolWait = a.poolWaitNanos;
+        long start = System.nanoTime();
+        try {
+            return delegate.getTransaction(definition);
+        } finally {
+            a.transactionNanos += System.nanoTime() - start - (a.poolWaitNanos - poolWait);
+        }
+    }
+
+    @Override
+    public void commit(TransactionStatus status) throws TransactionException {
+        Attribution a = Attribution.current();
+        if (a == null) {
+            delegate.commit(status);
+            return;
+        }
+        long poolWait = a.poolWaitNanos;
+        long start = System.nanoTime();
+        try {
+            delegate.commit(status);
+        } finally {
+            a.transactionNanos += System.nanoTime() - start - (a.poolWaitNanos - poolWait);
+        }
+    }
+
+    @Override
+    public void rollback(TransactionStatus status) throws TransactionException {
+        Attribution a = Attribution.current();
+        if (a == null) {
+            delegate.rollback(status);
+            return;
+        }
+        long poolWait = a.poolWaitNanos;
+        long start = System.nanoTime();
+        try {
+            delegate.rollback(status);
+        } finally {
+            a.transactionNanos += System.nanoTime() - start - (a.poolWaitNanos - poolWait);
+        }
+    }
+}
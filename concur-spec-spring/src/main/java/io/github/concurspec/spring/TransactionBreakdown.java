@@ -0,0 +1,49 @@
+package io.github.concurspec.spring;
+
+import io.github.concurspec.LatencySnapshot;
+import io.github.concurspec.RunStats;
+
+/**
+ * Per-operation latency split of a {@link SpringConcurRunner} run.
+ * A {@link #poolWaitShare()} close to 1 means the connection pool, not the code, is the bottleneck.
+ */
+public record TransactionBreakdown(
+        LatencySnapshot poolWait,
+        LatencySnapshot transaction,
+        LatencySnapshot business
+) {
+    public static TransactionBreakdown of(RunStats stats) {
+        return new TransactionBreakdown(
+                stats.phase(SpringConcurRunner.POOL_WAIT),
+                stats.phase(SpringConcurRunner.TRANSACTION),
+                stats.phase(SpringConcurRunner.BUSINESS));
+    }
+
+    /**
+     * Fraction of the total operation time spent waiting for connections (0 when nothing ran).
+     */
+    public double poolWaitShare() {
+        return share(poolWait);
+    }
+
+    public double transactionShare() {
+        return share(transaction);
+    }
+
+    public double businessShare() {
+        return share(business);
+    }
+
+    private double share(LatencySnapshot part) {
+        double total = (double) poolWait.avgNanos() + transaction.avgNanos() + business.avgNanos();
+        return total == 0 ? 0 : part.avgNanos() / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("pool-wait %.1f%% (p99 %dns), transaction %.1f%% (p99 %dns), business %.1f%% (p99 %dns)",
+                poolWaitShare() * 100, poolWait.p99Nanos(),
+                transactionShare() * 100, transaction.p99Nanos(),
+                businessShare() * 100, business.p99Nanos());
+    }
+}
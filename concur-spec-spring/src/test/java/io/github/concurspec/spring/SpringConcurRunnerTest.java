@@ -0,0 +1,289 @@
+package io.github.concurspec.spring;
+
+import io.github.concurspec.PipelineSpec;
+import io.github.concurspec.RunSpec;
+import io.github.concurspec.RunStats;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.ResourceTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+@SpringJUnitConfig({SpringConcurRunnerTest.TestConfig.class, ConcurSpecSpringConfiguration.class})
+class SpringConcurRunnerTest {
+
+    @Autowired
+    AccountService accounts;
+
+    @Autowired
+    AcquireDelay acquireDelay;
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("DataSource와 TransactionManager 빈이 timing wrapper로 감싸진다")
+    void shouldWrapDataSourceAndTransactionManager() {
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(dataSource).isInstanceOf(TimedDataSource.class);
+            softly.assertThat(transactionManager).isInstanceOf(TimedTransactionManager.class);
+            softly.assertThat(transactionManager).isInstanceOf(ResourceTransactionManager.class);
+            softly.assertThat(((ResourceTransactionManager) transactionManager).getResourceFactory()).isSameAs(dataSource);
+        });
+    }
+
+    @Test
+    @DisplayName("ResourceTransactionManager가 아닌 TransactionManager는 그대로 PlatformTransactionManager로만 감싸진다")
+    void shouldNotAddResourceInterfaceWhenDelegateLacksIt() {
+        // given
+        PlatformTransactionManager plain = new PlatformTransactionManager() {
+            @Override
+            public TransactionStatus getTransaction(TransactionDefinition definition) {
+                return new SimpleTransactionStatus();
+            }
+
+            @Override
+            public void commit(TransactionStatus status) {
+            }
+
+            @Override
+            public void rollback(TransactionStatus status) {
+            }
+        };
+
+        // when
+        TimedTransactionManager wrapped = TimedTransactionManager.wrap(plain);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(wrapped).isNotInstanceOf(ResourceTransactionManager.class);
+            softly.assertThat(wrapped.getDelegate()).isSameAs(plain);
+        });
+    }
+
+    @Test
+    @DisplayName("@Transactional 빈 호출의 latency가 pool-wait, transaction, business로 나뉜다")
+    void shouldBreakDownTransactionalLatency() throws InterruptedException {
+        // given
+        long before = accounts.balance(1L);
+        RunSpec spec = RunSpec.builder()
+                .threads(4)
+                .duration(Duration.ofMillis(300))
+                .totalTimeout(Duration.ofSeconds(10))
+                .task(() -> accounts.deposit(1L, 1L))
+                .build();
+
+        // when
+        RunStats stats = SpringConcurRunner.run(spec);
+
+        // then
+        TransactionBreakdown breakdown = TransactionBreakdown.of(stats);
+        assertSoftly(softly -> {
+            softly.assertThat(stats.failureCount()).isZero();
+            softly.assertThat(accounts.balance(1L) - before).isEqualTo(stats.successCount());
+            softly.assertThat(breakdown.poolWait().count()).isEqualTo(stats.latency().count());
+            softly.assertThat(breakdown.transaction().count()).isEqualTo(stats.latency().count());
+            softly.assertThat(breakdown.business().count()).isEqualTo(stats.latency().count());
+            softly.assertThat(breakdown.poolWait().maxNanos()).isPositive();
+            softly.assertThat(breakdown.transaction().maxNanos()).isPositive();
+            softly.assertThat(breakdown.poolWaitShare() + breakdown.transactionShare() + breakdown.businessShare())
+                    .isCloseTo(1.0, within(0.01));
+        });
+    }
+
+    @Test
+    @DisplayName("커넥션 획득이 느리면 pool-wait가 latency 대부분을 차지한다")
+    void shouldReportPoolAsBottleneckWhenAcquisitionIsSlow() throws InterruptedException {
+        // given
+        RunSpec spec = RunSpec.builder()
+                .threads(2)
+                .duration(Duration.ofMillis(300))
+                .totalTimeout(Duration.ofSeconds(10))
+                .task(() -> accounts.deposit(1L, 1L))
+                .build();
+        acquireDelay.millis = 5;
+
+        // when
+        RunStats stats;
+        try {
+            stats = SpringConcurRunner.run(spec);
+        } finally {
+            acquireDelay.millis = 0;
+        }
+
+        // then
+        TransactionBreakdown breakdown = TransactionBreakdown.of(stats);
+        assertSoftly(softly -> {
+            softly.assertThat(breakdown.poolWaitShare()).isGreaterThan(0.5);
+            softly.assertThat(breakdown.poolWait().p50Nanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(4));
+            softly.assertThat(breakdown.transaction().p50Nanos()).isLessThan(breakdown.poolWait().p50Nanos());
+        });
+    }
+
+    @Test
+    @DisplayName("실패한 작업의 에러가 전달한 spec의 errors에 쌓인다")
+    void shouldCollectErrorsIntoCallersSpec() throws InterruptedException {
+        // given
+        RunSpec spec = RunSpec.builder()
+                .threads(2)
+                .duration(Duration.ofMillis(50))
+                .totalTimeout(Duration.ofSeconds(5))
+                .task(() -> accounts.failingDeposit(1L))
+                .build();
+
+        // when
+        RunStats stats = SpringConcurRunner.run(spec);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(stats.failureCount()).isPositive();
+            softly.assertThat(spec.errors()).hasSize((int) stats.failureCount());
+            softly.assertThat(stats.errors()).isSameAs(spec.errors());
+        });
+    }
+
+    @Test
+    @DisplayName("run 밖에서의 호출은 측정하지 않는다")
+    void shouldNotAttributeOutsideRun() {
+        // when
+        accounts.deposit(1L, 0L);
+
+        // then
+        assertThat(Attribution.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("pipeline spec은 지원하지 않는다")
+    void shouldRejectPipelineSpec() {
+        // given
+        RunSpec spec = RunSpec.builder()
+                .pipeline(PipelineSpec.<Long>builder()
+                        .producer(() -> 1L)
+                        .consumer(v -> accounts.deposit(1L, v))
+                        .queue(new ArrayBlockingQueue<>(16))
+                        .build())
+                .build();
+
+        // when & then
+        assertThatThrownBy(() -> SpringConcurRunner.run(spec))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("pipeline");
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    static class TestConfig {
+
+        @Bean
+        AcquireDelay acquireDelay() {
+            return new AcquireDelay();
+        }
+
+        @Bean
+        DataSource dataSource(AcquireDelay acquireDelay) {
+            EmbeddedDatabase db = new EmbeddedDatabaseBuilder()
+                    .setType(EmbeddedDatabaseType.H2)
+                    .generateUniqueName(true)
+                    .addScript("schema.sql")
+                    .build();
+            return new DelayedDataSource(db, acquireDelay);
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(DataSource dataSource) {
+            return new DataSourceTransactionManager(dataSource);
+        }
+
+        @Bean
+        JdbcTemplate jdbcTemplate(DataSource dataSource) {
+            return new JdbcTemplate(dataSource);
+        }
+
+        @Bean
+        AccountService accountService(JdbcTemplate jdbc) {
+            return new AccountService(jdbc);
+        }
+    }
+
+    static class AccountService {
+        private final JdbcTemplate jdbc;
+
+        AccountService(JdbcTemplate jdbc) {
+            this.jdbc = jdbc;
+        }
+
+        @Transactional
+        public void deposit(long id, long amount) {
+            jdbc.update("update account set balance = balance + ? where id = ?", amount, id);
+        }
+
+        @Transactional
+        public void failingDeposit(long id) {
+            jdbc.update("update account set balance = balance + 1 where id = ?", id);
+            throw new IllegalStateException("rolled back");
+        }
+
+        public long balance(long id) {
+            return jdbc.queryForObject("select balance from account where id = ?", Long.class, id);
+        }
+    }
+
+    static class AcquireDelay {
+        volatile long millis;
+    }
+
+    /**
+     * Stands in for a saturated pool: every connection request waits {@code AcquireDelay.millis}.
+     */
+    static class DelayedDataSource extends DelegatingDataSource implements AutoCloseable {
+        private final AcquireDelay delay;
+
+        DelayedDataSource(EmbeddedDatabase db, AcquireDelay delay) {
+            super(db);
+            this.delay = delay;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            long millis = delay.millis;
+            if (millis > 0) LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(millis));
+            return super.getConnection();
+        }
+
+        @Override
+        public void close() {
+            ((EmbeddedDatabase) obtainTargetDataSource()).shutdown();
+        }
+    }
+}
@@ -0,0 +1,6 @@
+create table account (
+    id      bigint primary key,
+    balance bigint not null
+);
+
+insert into account (id, balance) values (1, 0);